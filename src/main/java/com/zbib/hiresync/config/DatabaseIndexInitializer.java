@@ -0,0 +1,190 @@
+package com.zbib.hiresync.config;
+
+import com.zbib.hiresync.search.TrigramSimilarity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Creates database objects that JPA index annotations cannot express, such as expression,
+ * partial and GIN trigram indexes, and fills columns added to populated tables. Every step is
+ * idempotent and runs at startup. On PostgreSQL indexes are built concurrently so writes continue
+ * meanwhile, backfills update bounded batches and run once, and an advisory lock keeps nodes
+ * starting together from doing the same work twice.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class DatabaseIndexInitializer implements ApplicationRunner {
+
+    static final String SIMILARITY_FUNCTION = "trgm_similarity";
+    static final String HIT_RANK_FUNCTION = "search_hit_rank";
+
+    private static final long ADVISORY_LOCK_KEY = 0x6869726573796e63L;
+    private static final int BACKFILL_BATCH_SIZE = 10_000;
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private static final List<String> POSTGRES_EXTENSIONS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            // applicant search: btree_gin lets job_id share the trigram index, so a search scans one posting only
+            "CREATE EXTENSION IF NOT EXISTS btree_gin"
+    );
+
+    private static final List<Index> POSTGRES_INDEXES = List.of(
+            new Index("idx_address_city_trgm", "addresses USING gin (lower(city) gin_trgm_ops)"),
+            new Index("idx_address_country_trgm", "addresses USING gin (lower(country) gin_trgm_ops)"),
+            new Index("idx_job_company_name_trgm", "jobs USING gin (lower(company_name) gin_trgm_ops)"),
+            // feed indexes cover live postings only, so they stay small as expired jobs accumulate
+            new Index("idx_job_active_created_at", "jobs (created_at DESC, id) WHERE active"),
+            new Index("idx_job_active_ranking_score", "jobs (ranking_score DESC, id) WHERE active"),
+            new Index("idx_job_active_expires_at", "jobs (expires_at) WHERE active AND expires_at IS NOT NULL"),
+            new Index("idx_application_job_search_trgm", "applications USING gin (job_id, search_text gin_trgm_ops)")
+    );
+
+    private static final List<String> POSTGRES_DROPPED_INDEXES = List.of("idx_job_active");
+
+    private static final List<String> H2_STATEMENTS = List.of(
+            "CREATE ALIAS IF NOT EXISTS " + SIMILARITY_FUNCTION + " FOR \""
+                    + TrigramSimilarity.class.getName() + ".similarity\"",
+            "CREATE ALIAS IF NOT EXISTS " + HIT_RANK_FUNCTION + " FOR \""
+                    + SearchHitFunctionContributor.class.getName() + ".position\""
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${hiresync.expiry.default-ttl:60d}")
+    private Duration defaultTtl;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String product = databaseProduct();
+        switch (product) {
+            case "PostgreSQL" -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                // one autocommit session: CONCURRENTLY cannot run in a transaction, and the advisory lock is per session
+                initializePostgres(new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+                return null;
+            });
+            case "H2" -> H2_STATEMENTS.forEach(statement -> apply(jdbcTemplate, product, statement));
+            default -> {
+            }
+        }
+    }
+
+    private void initializePostgres(JdbcTemplate session) {
+        POSTGRES_EXTENSIONS.forEach(statement -> apply(session, "PostgreSQL", statement));
+        if (!Boolean.TRUE.equals(session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, ADVISORY_LOCK_KEY))) {
+            log.info("Another node is initializing the database, skipping backfills and index builds");
+            return;
+        }
+        try {
+            apply(session, "PostgreSQL", "CREATE TABLE IF NOT EXISTS schema_backfills"
+                    + " (name VARCHAR(100) PRIMARY KEY, completed_at TIMESTAMP NOT NULL)");
+            postgresBackfills().forEach(backfill -> backfillOnce(session, backfill));
+            POSTGRES_INDEXES.forEach(index -> createConcurrently(session, index));
+            POSTGRES_DROPPED_INDEXES.forEach(name -> apply(session, "PostgreSQL", "DROP INDEX CONCURRENTLY IF EXISTS " + name));
+        } finally {
+            session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+        }
+    }
+
+    private List<Backfill> postgresBackfills() {
+        return List.of(
+                new Backfill("applications.search_text", "applications",
+                        "search_text = lower(concat_ws(' ', first_name, last_name, applicant_email, notes, summary))",
+                        "search_text IS NULL"),
+                // postings from before expiry existed get the default lifetime, counted from when they were posted
+                new Backfill("jobs.expires_at", "jobs",
+                        "expires_at = created_at + make_interval(secs => " + defaultTtl.toSeconds() + ")",
+                        "expires_at IS NULL"));
+    }
+
+    /**
+     * Runs the backfill in primary key ranges of {@link #BACKFILL_BATCH_SIZE} rows, each committed on
+     * its own, so no single statement locks or rewrites the whole table. Recorded once finished.
+     */
+    private void backfillOnce(JdbcTemplate session, Backfill backfill) {
+        try {
+            Integer done = session.queryForObject("SELECT count(*) FROM schema_backfills WHERE name = ?",
+                    Integer.class, backfill.name());
+            if (done != null && done > 0) {
+                return;
+            }
+            String update = "UPDATE " + backfill.table() + " SET " + backfill.set()
+                    + " WHERE " + backfill.where() + " AND id > ?";
+            String nextBound = "SELECT id FROM " + backfill.table() + " WHERE id > ? ORDER BY id OFFSET ? LIMIT 1";
+            UUID lower = FIRST_ID;
+            long updated = 0;
+            while (true) {
+                List<UUID> upper = session.queryForList(nextBound, UUID.class, lower, BACKFILL_BATCH_SIZE - 1);
+                if (upper.isEmpty()) {
+                    updated += session.update(update, lower);
+                    break;
+                }
+                updated += session.update(update + " AND id <= ?", lower, upper.get(0));
+                lower = upper.get(0);
+            }
+            session.update("INSERT INTO schema_backfills (name, completed_at) VALUES (?, now())", backfill.name());
+            log.info("Backfilled {} on {} rows", backfill.name(), updated);
+        } catch (DataAccessException e) {
+            log.warn("Could not backfill {}: {}", backfill.name(), e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the index without blocking writes. A concurrent build that was interrupted leaves an
+     * invalid index behind, which {@code IF NOT EXISTS} would keep forever, so that one is dropped first.
+     */
+    private void createConcurrently(JdbcTemplate session, Index index) {
+        try {
+            Boolean invalid = session.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_index i JOIN pg_class c"
+                    + " ON c.oid = i.indexrelid WHERE c.relname = ? AND NOT i.indisvalid)", Boolean.class, index.name());
+            if (Boolean.TRUE.equals(invalid)) {
+                log.warn("Rebuilding invalid index {}", index.name());
+                session.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.name());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not check index {}: {}", index.name(), e.getMessage());
+        }
+        apply(session, "PostgreSQL", "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index.name() + " ON " + index.definition());
+    }
+
+    private static void apply(JdbcTemplate template, String product, String statement) {
+        try {
+            template.execute(statement);
+        } catch (DataAccessException e) {
+            log.warn("Could not apply database statement on {} [{}]: {}", product, statement, e.getMessage());
+        }
+    }
+
+    private String databaseProduct() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not determine database product: {}", e.getMessage());
+            return "";
+        }
+    }
+
+    private record Index(String name, String definition) {
+    }
+
+    /**
+     * Sets {@code set} on rows of {@code table} matching {@code where}; the table must have a UUID {@code id}.
+     */
+    private record Backfill(String name, String table, String set, String where) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.zbib.hiresync.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings; the primary keeps using {@code spring.datasource}.
+ */
+@Data
+@ConfigurationProperties(prefix = "hiresync.datasource.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled;
+
+    /** Replicas lagging further behind the primary are skipped until they catch up. */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** Reads by a user within this window after their last write go to the primary. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Writers remembered for the window. Bounds memory under a burst of distinct writers; beyond it
+     * the least recent writers may read from a replica early.
+     */
+    private long readYourWritesMaxUsers = 100_000;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    @Data
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,176 @@
+package com.zbib.hiresync.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for read-only transactions to a healthy replica and everything else to the
+ * primary. Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the lookup happens after the transaction's read-only flag is set.
+ */
+@Log4j2
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    /**
+     * Replay delay of a replica: zero when it has replayed everything the primary had written at the
+     * time of the check, otherwise the age of its last replayed transaction. Instances that are not in
+     * recovery (e.g. two independent local databases) report no lag.
+     */
+    private static final String REPLICA_LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_replay_lsn() >= ?::pg_lsn THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END""";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Duration maxLag;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    /** Users who committed a write within the read-your-writes window; entries expire with the window. */
+    private final Cache<String, Boolean> recentWriters;
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, ReplicaProperties properties) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.maxLag = properties.getMaxLag();
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(properties.getReadYourWritesMaxUsers())
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit(user);
+            return PRIMARY;
+        }
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            return PRIMARY;
+        }
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Re-evaluates which replicas are close enough to the primary to serve reads.
+     */
+    @Scheduled(fixedDelayString = "${hiresync.datasource.replicas.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        String primaryLsn;
+        try {
+            primaryLsn = queryString(primary, PRIMARY_LSN_SQL);
+        } catch (SQLException e) {
+            log.warn("Could not read primary WAL position, routing all reads to primary: {}", e.getMessage());
+            healthyReplicas = List.of();
+            return;
+        }
+
+        List<String> healthy = replicaKeys.stream()
+                .filter(key -> isWithinLag(key, primaryLsn))
+                .toList();
+        if (healthy.size() != healthyReplicas.size()) {
+            log.info("{} of {} read replicas available", healthy.size(), replicaKeys.size());
+        }
+        healthyReplicas = healthy;
+    }
+
+    @Override
+    public void close() {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+
+    private boolean isWithinLag(String key, String primaryLsn) {
+        try (Connection connection = replicas.get(key).getConnection();
+             PreparedStatement statement = connection.prepareStatement(REPLICA_LAG_SQL)) {
+            statement.setString(1, primaryLsn);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                long lagMillis = resultSet.getLong(1);
+                if (lagMillis > maxLag.toMillis()) {
+                    log.warn("Replica {} is {} ms behind the primary", key, lagMillis);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            log.warn("Replica {} is unavailable: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String queryString(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private void recordWriteOnCommit(String user) {
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
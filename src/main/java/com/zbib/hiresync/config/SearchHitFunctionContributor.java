@@ -0,0 +1,51 @@
+package com.zbib.hiresync.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.UUID;
+
+/**
+ * Registers {@code hit_match(hits, id)} and {@code hit_rank(hits, id)} for criteria queries, which
+ * filter and order rows by an array of ids bound as a single parameter. On PostgreSQL they render
+ * {@code id = any(hits)}, which uses the primary key index, and {@code array_position}; elsewhere
+ * (H2 in tests) they use {@code array_contains} and the {@code search_hit_rank} alias created by
+ * {@link DatabaseIndexInitializer}. Loaded by Hibernate through {@code META-INF/services}.
+ */
+public class SearchHitFunctionContributor implements FunctionContributor {
+
+    public static final String HIT_MATCH = "hit_match";
+    public static final String HIT_RANK = "hit_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        var typeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        BasicType<Boolean> booleanType = typeRegistry.resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Integer> integerType = typeRegistry.resolve(StandardBasicTypes.INTEGER);
+
+        boolean postgres = functionContributions.getDialect() instanceof PostgreSQLDialect;
+        functionContributions.getFunctionRegistry().registerPattern(HIT_MATCH,
+                postgres ? "(?2 = any(?1))" : "array_contains(?1, ?2)", booleanType);
+        functionContributions.getFunctionRegistry().registerPattern(HIT_RANK,
+                postgres ? "array_position(?1, ?2)" : DatabaseIndexInitializer.HIT_RANK_FUNCTION + "(?1, ?2)", integerType);
+    }
+
+    /**
+     * One-based position of {@code id} in {@code hits}, or null when absent, like PostgreSQL's
+     * {@code array_position}. Backs the H2 alias.
+     */
+    public static Integer position(UUID[] hits, UUID id) {
+        if (hits == null || id == null) {
+            return null;
+        }
+        for (int i = 0; i < hits.length; i++) {
+            if (id.equals(hits[i])) {
+                return i + 1;
+            }
+        }
+        return null;
+    }
+}
@@ -62,7 +62,9 @@ public class SecurityConfig {
                                 "/v1/auth/refresh",
                                 "/v1/auth/logout").permitAll()
                         .requestMatchers(HttpMethod.GET, "/v1/jobs/*").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/jobs/*/similar").permitAll()
                         .requestMatchers(HttpMethod.POST, "/v1/jobs/*/applications").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/jobs/*/applications/submissions/*").permitAll()
                         .requestMatchers(
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
@@ -0,0 +1,31 @@
+package com.zbib.hiresync.config;
+
+import com.zbib.hiresync.search.TrigramSimilarity;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@code trgm_match(text, query)} for criteria queries. On PostgreSQL it renders the
+ * pg_trgm {@code %} operator so GIN trigram indexes are used; elsewhere (H2 in tests) it calls
+ * the {@code trgm_similarity} alias created by {@link DatabaseIndexInitializer}.
+ * Loaded by Hibernate through {@code META-INF/services}.
+ */
+public class TrigramFunctionContributor implements FunctionContributor {
+
+    public static final String TRGM_MATCH = "trgm_match";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+
+        String pattern = functionContributions.getDialect() instanceof PostgreSQLDialect
+                ? "(?1 % ?2)"
+                : "(" + DatabaseIndexInitializer.SIMILARITY_FUNCTION + "(?1, ?2) >= " + TrigramSimilarity.DEFAULT_THRESHOLD + ")";
+        functionContributions.getFunctionRegistry().registerPattern(TRGM_MATCH, pattern, booleanType);
+    }
+}
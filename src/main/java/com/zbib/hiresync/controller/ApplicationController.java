@@ -1,13 +1,20 @@
 package com.zbib.hiresync.controller;
 
+import com.zbib.hiresync.dto.request.BulkUpdateApplicationStatusRequest;
 import com.zbib.hiresync.dto.request.CreateApplicationRequest;
 import com.zbib.hiresync.dto.request.ToggleApplicationStatusRequest;
 import com.zbib.hiresync.dto.response.ApplicationResponse;
+import com.zbib.hiresync.dto.response.ApplicationStatsResponse;
+import com.zbib.hiresync.dto.response.ApplicationStatusHistoryResponse;
+import com.zbib.hiresync.dto.response.BulkApplicationStatusResponse;
 import com.zbib.hiresync.service.ApplicationService;
+import com.zbib.hiresync.service.ApplicationStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,6 +30,16 @@ import java.util.UUID;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final ApplicationStatsService applicationStatsService;
+
+    @GetMapping("/stats")
+    @Operation(
+        summary = "Get application statistics",
+        description = "Totals of the applications received for the authenticated user's jobs, by status and by job."
+    )
+    public ResponseEntity<ApplicationStatsResponse> getStats(Principal principal) {
+        return ResponseEntity.ok(applicationStatsService.getStats(principal.getName()));
+    }
 
     @GetMapping("/{id}")
     @Operation(
@@ -36,6 +53,19 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/{id}/history")
+    @Operation(
+        summary = "Get application status history",
+        description = "Page through the status changes of an application, newest first. Only accessible by the job creator."
+    )
+    public ResponseEntity<Page<ApplicationStatusHistoryResponse>> getStatusHistory(
+            @PathVariable UUID id,
+            Pageable pageable,
+            Principal principal) {
+        Page<ApplicationStatusHistoryResponse> history = applicationService.getStatusHistory(id, pageable, principal.getName());
+        return ResponseEntity.ok(history);
+    }
+
     @PutMapping("/{id}/status")
     @Operation(
         summary = "Update application status",
@@ -48,4 +78,16 @@ public class ApplicationController {
         ApplicationResponse response = applicationService.toggleApplicationStatus(id, request, principal.getName());
         return ResponseEntity.ok(response);
     }
+
+    @PutMapping("/status")
+    @Operation(
+        summary = "Update the status of many applications",
+        description = "Apply one status change to a list of applications, or to every application of a job matching a filter. Returns a result per application; only the job creator's applications are changed."
+    )
+    public ResponseEntity<BulkApplicationStatusResponse> bulkUpdateStatus(
+            @Valid @RequestBody BulkUpdateApplicationStatusRequest request,
+            Principal principal) {
+        BulkApplicationStatusResponse response = applicationService.bulkUpdateStatus(request, principal.getName());
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
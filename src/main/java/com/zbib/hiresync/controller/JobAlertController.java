@@ -0,0 +1,46 @@
+package com.zbib.hiresync.controller;
+
+import com.zbib.hiresync.dto.request.CreateJobAlertRequest;
+import com.zbib.hiresync.dto.response.JobAlertResponse;
+import com.zbib.hiresync.service.JobAlertService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1/alerts")
+@RequiredArgsConstructor
+@Tag(name = "Job Alerts", description = "Saved job searches with notifications for new matching postings")
+public class JobAlertController {
+
+    private final JobAlertService jobAlertService;
+
+    @PostMapping
+    @Operation(summary = "Create a job alert", description = "Saves a job feed filter; new postings matching it are delivered to the authenticated user.")
+    public ResponseEntity<JobAlertResponse> createAlert(@Valid @RequestBody CreateJobAlertRequest request, Principal principal) {
+        JobAlertResponse response = jobAlertService.createAlert(request, principal.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping
+    @Operation(summary = "Get user's job alerts", description = "Returns the authenticated user's active job alerts")
+    public ResponseEntity<List<JobAlertResponse>> getAlerts(Principal principal) {
+        List<JobAlertResponse> alerts = jobAlertService.getAlerts(principal.getName());
+        return ResponseEntity.ok(alerts);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a job alert", description = "Stops notifications for the alert. Only the alert owner can delete it.")
+    public ResponseEntity<Void> deleteAlert(@PathVariable UUID id, Principal principal) {
+        jobAlertService.deleteAlert(id, principal.getName());
+        return ResponseEntity.noContent().build();
+    }
+}
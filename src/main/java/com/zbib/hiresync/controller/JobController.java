@@ -6,21 +6,38 @@ import com.zbib.hiresync.dto.request.CreateApplicationRequest;
 import com.zbib.hiresync.dto.request.CreateJobRequest;
 import com.zbib.hiresync.dto.request.UpdateJobRequest;
 import com.zbib.hiresync.dto.response.*;
+import com.zbib.hiresync.enums.FileFormat;
+import com.zbib.hiresync.service.ApplicationExportService;
+import com.zbib.hiresync.service.ApplicationImportService;
+import com.zbib.hiresync.service.ApplicationIngestionService;
 import com.zbib.hiresync.service.ApplicationService;
 import com.zbib.hiresync.service.JobService;
+import com.zbib.hiresync.service.JobSimilarityService;
+import com.zbib.hiresync.service.JobSuggestionService;
+import com.zbib.hiresync.service.JobViewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.PrioritizedParameterNameDiscoverer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -30,9 +47,24 @@ import java.util.UUID;
 public class JobController {
 
     private final JobService jobService;
+    private final ApplicationIngestionService applicationIngestionService;
+    private final ApplicationExportService applicationExportService;
+    private final ApplicationImportService applicationImportService;
     private final ApplicationService applicationService;
+    private final JobViewService jobViewService;
+    private final JobSuggestionService jobSuggestionService;
+    private final JobSimilarityService jobSimilarityService;
     private final PrioritizedParameterNameDiscoverer prioritizedParameterNameDiscoverer;
 
+    @Value("${hiresync.http.cache.job-max-age:60s}")
+    private Duration jobMaxAge;
+
+    @Value("${hiresync.http.cache.feed-max-age:15s}")
+    private Duration feedMaxAge;
+
+    @Value("${hiresync.http.cache.shared-max-age:300s}")
+    private Duration sharedMaxAge;
+
     @PostMapping
     @Operation(summary = "Create a new job posting", description = "Creates a new job posting with the provided details. The job will be associated with the authenticated user.")
     public ResponseEntity<JobResponse> createJob(@Valid @RequestBody CreateJobRequest request, Principal principal) {
@@ -48,17 +80,44 @@ public class JobController {
     }
 
     @GetMapping("/feed")
-    @Operation(summary = "Get public job feed", description = "Returns a paginated list of active job postings for public viewing")
-    public ResponseEntity<Page<JobListResponse>> getJobsFeed(@ModelAttribute JobFilter filter, Pageable pageable) {
-        Page<JobListResponse> jobs = jobService.getJobsFeed(filter, pageable);
-        return ResponseEntity.ok(jobs);
+    @Operation(summary = "Get public job feed", description = "Returns a paginated list of active job postings for public viewing. Use sort=relevance to order by the precomputed ranking score. With facets=true the page also carries job counts per employment type, workplace type and currency for the same filter.")
+    public ResponseEntity<Page<JobListResponse>> getJobsFeed(@ModelAttribute JobFilter filter, Pageable pageable,
+                                                             @RequestParam(defaultValue = "false") boolean facets,
+                                                             WebRequest webRequest) {
+        String eTag = jobService.getJobsFeedETag(filter, pageable, facets);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(feedCacheControl()).build();
+        }
+        Page<JobListResponse> jobs = jobService.getJobsFeed(filter, pageable, facets);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(feedCacheControl()).body(jobs);
+    }
+
+    @GetMapping("/suggestions")
+    @Operation(summary = "Suggest job titles and companies", description = "Returns title and company name completions for a partially typed query, most common first")
+    public ResponseEntity<List<JobSuggestionResponse>> getSuggestions(@RequestParam("q") String query,
+                                                                      @RequestParam(defaultValue = "10") int limit) {
+        List<JobSuggestionResponse> suggestions = jobSuggestionService.suggest(query, limit);
+        return ResponseEntity.ok(suggestions);
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get job by ID", description = "Returns detailed information about a specific job posting")
-    public ResponseEntity<JobResponse> getJobById(@PathVariable UUID id) {
+    @Operation(summary = "Get job by ID", description = "Returns detailed information about a specific job posting. Supports If-None-Match with the returned ETag.")
+    public ResponseEntity<JobResponse> getJobById(@PathVariable UUID id, WebRequest webRequest) {
+        String eTag = jobService.getJobETag(id);
+        jobViewService.recordView(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(jobCacheControl()).build();
+        }
         JobResponse job = jobService.getJobById(id);
-        return ResponseEntity.ok(job);
+        return ResponseEntity.ok().eTag(jobService.getJobETag(job)).cacheControl(jobCacheControl()).body(job);
+    }
+
+    @GetMapping("/{id}/similar")
+    @Operation(summary = "Get similar jobs", description = "Returns active jobs whose title, description and requirements are most similar to the given job, with the estimated similarity")
+    public ResponseEntity<List<JobListResponse>> getSimilarJobs(@PathVariable UUID id,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        List<JobListResponse> jobs = jobSimilarityService.findSimilarJobs(id, limit);
+        return ResponseEntity.ok(jobs);
     }
 
     @PutMapping("/{id}")
@@ -82,15 +141,57 @@ public class JobController {
         return ResponseEntity.ok(applications);
     }
 
+    @GetMapping("/{id}/applications/export")
+    @Operation(summary = "Export applications for a job", description = "Streams every application of a job matching the filter as CSV or NDJSON (format=CSV|NDJSON). Only accessible by the job owner.")
+    public ResponseEntity<StreamingResponseBody> exportJobApplications(@PathVariable UUID id, @ModelAttribute ApplicationFilter filter,
+                                                                       @RequestParam(defaultValue = "CSV") FileFormat format, Principal principal) {
+        StreamingResponseBody body = applicationExportService.export(id, filter, format, principal.getName());
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("applications-" + id + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @PostMapping(value = "/{id}/applications/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import applications for a job", description = "Bulk imports applicants exported from another ATS as CSV (header row naming first_name, last_name, email and optionally resume_url, linkedin_url, status, applied_at) or NDJSON. Only the job owner can import.")
+    public ResponseEntity<ApplicationImportResponse> importJobApplications(@PathVariable UUID id, @RequestParam("file") MultipartFile file,
+                                                                           @RequestParam(defaultValue = "CSV") FileFormat format, Principal principal) {
+        ApplicationImportResponse response = applicationImportService.importApplications(id, file, format, principal.getName());
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/{jobId}/applications")
     @Operation(
             summary = "Create a new job application",
-            description = "Submit an application for a job posting with the applicant's details"
+            description = "Submit an application for a job posting with the applicant's details. Retrying with the same Idempotency-Key returns the original application instead of a conflict. "
+                    + "In write-behind mode the submission is queued and answered with 202 and a tracking id."
     )
-    public ResponseEntity<ApplicationResponse> createApplication(
+    public ResponseEntity<?> createApplication(
             @PathVariable UUID jobId,
-            @Valid @RequestBody CreateApplicationRequest request) {
-        ApplicationResponse response = applicationService.createApplication(jobId, request);
+            @Valid @RequestBody CreateApplicationRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (applicationIngestionService.isEnabled()) {
+            ApplicationSubmissionResponse submission = applicationIngestionService.submit(jobId, request, idempotencyKey);
+            return ResponseEntity.accepted().body(submission);
+        }
+        ApplicationResponse response = applicationService.createApplication(jobId, request, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{jobId}/applications/submissions/{trackingId}")
+    @Operation(summary = "Get submission status", description = "Returns whether a queued application submission to this job has been stored or rejected, or 404 if it belongs to another job. Rejections are known only to the node that accepted the submission; other nodes report PENDING until the application is stored.")
+    public ResponseEntity<ApplicationSubmissionResponse> getSubmission(@PathVariable UUID jobId, @PathVariable UUID trackingId) {
+        return ResponseEntity.ok(applicationIngestionService.getSubmission(jobId, trackingId));
+    }
+
+    private CacheControl jobCacheControl() {
+        return CacheControl.maxAge(jobMaxAge).sMaxAge(sharedMaxAge).cachePublic();
+    }
+
+    private CacheControl feedCacheControl() {
+        return CacheControl.maxAge(feedMaxAge).sMaxAge(sharedMaxAge).cachePublic();
+    }
+}
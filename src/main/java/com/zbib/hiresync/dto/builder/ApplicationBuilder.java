@@ -2,18 +2,22 @@ package com.zbib.hiresync.dto.builder;
 
 import com.zbib.hiresync.dto.request.CreateApplicationRequest;
 import com.zbib.hiresync.dto.response.ApplicationResponse;
+import com.zbib.hiresync.dto.response.ApplicationStatusHistoryResponse;
 import com.zbib.hiresync.dto.response.JobApplicationListResponse;
 import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.ApplicationStatusHistory;
 import com.zbib.hiresync.entity.Job;
 import com.zbib.hiresync.enums.ApplicationStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
 public class ApplicationBuilder {
 
-    public Application buildApplication(CreateApplicationRequest request, Job job) {
+    public Application buildApplication(CreateApplicationRequest request, Job job, String idempotencyKey) {
         return Application.builder()
                 .job(job)
                 .firstName(request.getFirstName())
@@ -22,6 +26,7 @@ public class ApplicationBuilder {
 //                .resumeUrl(request.getResumeUrl())
                 .linkedinUrl(request.getLinkedinUrl())
                 .status(ApplicationStatus.SUBMITTED)
+                .idempotencyKey(idempotencyKey)
                 .build();
     }
 
@@ -52,4 +57,25 @@ public class ApplicationBuilder {
                 .updatedAt(application.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    public ApplicationStatusHistory buildStatusHistory(UUID applicationId, ApplicationStatus fromStatus,
+                                                       ApplicationStatus toStatus, String notes, UUID changedBy) {
+        return ApplicationStatusHistory.builder()
+                .applicationId(applicationId)
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .notes(notes == null || notes.isBlank() ? null : notes)
+                .changedBy(changedBy)
+                .build();
+    }
+
+    public ApplicationStatusHistoryResponse buildStatusHistoryResponse(ApplicationStatusHistory history) {
+        return ApplicationStatusHistoryResponse.builder()
+                .fromStatus(history.getFromStatus())
+                .toStatus(history.getToStatus())
+                .notes(history.getNotes())
+                .changedBy(history.getChangedBy())
+                .changedAt(history.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.zbib.hiresync.dto.builder;
+
+import com.zbib.hiresync.dto.filter.JobFilter;
+import com.zbib.hiresync.dto.request.CreateJobAlertRequest;
+import com.zbib.hiresync.dto.response.JobAlertResponse;
+import com.zbib.hiresync.entity.Address;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.JobAlert;
+import com.zbib.hiresync.entity.JobAlertNotification;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.search.JobAlertPercolator;
+import com.zbib.hiresync.search.TextTokenizer;
+import com.zbib.hiresync.service.GeocodingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class JobAlertBuilder {
+
+    private final GeocodingService geocodingService;
+
+    public JobAlert buildJobAlert(CreateJobAlertRequest request, User user) {
+        return JobAlert.builder()
+                .user(user)
+                .name(request.getName())
+                .criteria(request.getFilter())
+                .active(true)
+                .build();
+    }
+
+    public JobAlertResponse buildJobAlertResponse(JobAlert alert) {
+        return JobAlertResponse.builder()
+                .id(alert.getId())
+                .name(alert.getName())
+                .filter(alert.getCriteria())
+                .createdAt(alert.getCreatedAt())
+                .build();
+    }
+
+    public JobAlertNotification buildNotification(JobAlert alert, Job job) {
+        return JobAlertNotification.builder()
+                .alert(alert)
+                .jobId(job.getId())
+                .jobTitle(job.getTitle())
+                .companyName(job.getCompanyName())
+                .build();
+    }
+
+    /**
+     * Compiles the alert's filter with the same semantics as the feed: the last search term matches
+     * as a prefix, canonical location names match exactly, anything else as a case-insensitive
+     * substring or, with {@code fuzzyMatch}, by trigram similarity.
+     */
+    public JobAlertPercolator.Query buildPercolatorQuery(JobAlert alert, UUID userId) {
+        JobFilter filter = alert.getCriteria();
+        List<String> terms = TextTokenizer.tokenize(filter.getSearchQuery());
+        Optional<String> canonicalCity = geocodingService.canonicalCity(filter.getCity());
+        Optional<String> canonicalCountry = geocodingService.canonicalCountry(filter.getCountry());
+
+        Set<WorkplaceType> workplaceTypes = filter.getWorkplaceTypes() == null ? Set.of() : Set.copyOf(filter.getWorkplaceTypes());
+        if (Boolean.TRUE.equals(filter.getRemoteAllowed())
+                && (workplaceTypes.isEmpty() || workplaceTypes.contains(WorkplaceType.REMOTE))) {
+            workplaceTypes = Set.of(WorkplaceType.REMOTE);
+        }
+
+        return new JobAlertPercolator.Query(
+                alert.getId(),
+                userId,
+                terms.isEmpty() ? Set.of() : new HashSet<>(terms.subList(0, terms.size() - 1)),
+                terms.isEmpty() ? null : terms.get(terms.size() - 1),
+                lower(canonicalCity.orElse(filter.getCity())),
+                canonicalCity.isPresent(),
+                lower(canonicalCountry.orElse(filter.getCountry())),
+                canonicalCountry.isPresent(),
+                lower(filter.getCompanyName()),
+                Boolean.TRUE.equals(filter.getFuzzyMatch()),
+                filter.getCurrency() == null || filter.getCurrency().isBlank() ? null : filter.getCurrency().toUpperCase(Locale.ROOT),
+                filter.getEmploymentTypes() == null ? Set.of() : Set.copyOf(filter.getEmploymentTypes()),
+                workplaceTypes,
+                filter.getMinSalary(),
+                filter.getMaxSalary(),
+                filter.getPostedWithinDays(),
+                filter.getCreatedAfter(),
+                filter.getCreatedBefore(),
+                filter.getCreatedById(),
+                filter.getLatitude(),
+                filter.getLongitude(),
+                filter.hasRadius() ? filter.getRadiusKm() : null);
+    }
+
+    public JobAlertPercolator.Document buildPercolatorDocument(Job job) {
+        Set<String> tokens = new HashSet<>();
+        tokens.addAll(TextTokenizer.tokenize(job.getTitle()));
+        tokens.addAll(TextTokenizer.tokenize(job.getCompanyName()));
+        tokens.addAll(TextTokenizer.tokenize(job.getDescription()));
+        tokens.addAll(TextTokenizer.tokenize(job.getRequirements()));
+
+        Address address = job.getAddress();
+        return new JobAlertPercolator.Document(
+                tokens,
+                address == null ? null : lower(address.getCity()),
+                address == null ? null : lower(address.getCountry()),
+                lower(job.getCompanyName()),
+                job.getCurrency() == null ? null : job.getCurrency().toUpperCase(Locale.ROOT),
+                job.getEmploymentType(),
+                job.getWorkplaceType(),
+                job.getMinSalary(),
+                job.getMaxSalary(),
+                // not stamped until the insert is flushed; a job being created is created now
+                job.getCreatedAt() == null ? LocalDateTime.now() : job.getCreatedAt(),
+                job.getUser() == null ? null : job.getUser().getId(),
+                address == null ? null : address.getLatitude(),
+                address == null ? null : address.getLongitude());
+    }
+
+    private static String lower(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,6 @@
 package com.zbib.hiresync.dto.builder;
 
+import com.zbib.hiresync.dto.filter.JobFilter;
 import com.zbib.hiresync.dto.request.CreateJobRequest;
 import com.zbib.hiresync.dto.request.UpdateJobRequest;
 import com.zbib.hiresync.dto.response.JobResponse;
@@ -8,13 +9,31 @@ import com.zbib.hiresync.dto.response.JobListResponse;
 import com.zbib.hiresync.entity.Address;
 import com.zbib.hiresync.entity.Job;
 import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.geo.GeocodedLocation;
+import com.zbib.hiresync.repository.JobRepositoryCustom.ChangeMarker;
+import com.zbib.hiresync.service.GeocodingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class JobBuilder {
 
+    private final GeocodingService geocodingService;
+
+    @Value("${hiresync.http.cache.feed-max-age:15s}")
+    private Duration feedMaxAge;
+
     public Job buildJob(CreateJobRequest request, User creator) {
         LocalDateTime now = LocalDateTime.now();
 
@@ -30,6 +49,7 @@ public class JobBuilder {
                 .currency(request.getCurrency())
                 .user(creator)
                 .active(true)
+                .expiresAt(request.getVisibleUntil())
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
@@ -38,7 +58,9 @@ public class JobBuilder {
             Address address = Address.builder()
                     .formattedAddress(request.getLocation())
                     .build();
+            geocode(address);
             job.setAddress(address);
+            updateCoordinates(job, request.getLatitude(), request.getLongitude());
         }
 
         return job;
@@ -82,7 +104,12 @@ public class JobBuilder {
             job.setCurrency(request.getCurrency());
         }
 
+        if (request.getVisibleUntil() != null) {
+            job.setExpiresAt(request.getVisibleUntil());
+        }
+
         updateAddress(job, request.getLocation());
+        updateCoordinates(job, request.getLatitude(), request.getLongitude());
     }
 
     private void updateAddress(Job job, String location) {
@@ -98,9 +125,28 @@ public class JobBuilder {
         } else {
             job.getAddress().setFormattedAddress(location);
         }
+        geocode(job.getAddress());
+    }
+
+    private void geocode(Address address) {
+        GeocodedLocation location = geocodingService.geocode(address.getFormattedAddress()).orElse(null);
+        address.setCity(location != null ? location.city() : null);
+        address.setState(location != null ? location.state() : null);
+        address.setCountry(location != null ? location.country() : null);
+        address.setLatitude(location != null ? location.latitude() : null);
+        address.setLongitude(location != null ? location.longitude() : null);
+    }
+
+    private void updateCoordinates(Job job, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null || job.getAddress() == null) {
+            return;
+        }
+
+        job.getAddress().setLatitude(latitude);
+        job.getAddress().setLongitude(longitude);
     }
 
-    public JobResponse buildJobResponse(Job job) {
+    public JobResponse buildJobResponse(Job job, long applicationCount) {
         return JobResponse.builder()
                 .id(job.getId())
                 .title(job.getTitle())
@@ -114,21 +160,58 @@ public class JobBuilder {
                 .maxSalary(job.getMaxSalary())
                 .currency(job.getCurrency())
                 .active(job.isActive())
-                .applicationCount(job.getApplicationCount())
+                .applicationCount(applicationCount)
+                .expiresAt(job.getExpiresAt())
                 .createdAt(job.getCreatedAt())
                 .updatedAt(job.getUpdatedAt())
                 .build();
     }
 
-    public JobListResponse buildJobListResponse(Job job) {
+    public JobListResponse buildJobListResponse(Job job, long applicationCount) {
+        return buildJobListResponse(job, applicationCount, null);
+    }
+
+    public JobListResponse buildJobListResponse(Job job, long applicationCount, Double distanceKm) {
         return JobListResponse.builder()
                 .id(job.getId())
                 .title(job.getTitle())
                 .workplaceType(job.getWorkplaceType())
                 .employmentType(job.getEmploymentType())
                 .active(job.isActive())
-                .applicationCount(job.getApplicationCount())
+                .applicationCount(applicationCount)
                 .createdAt(job.getCreatedAt())
+                .distanceKm(distanceKm)
                 .build();
     }
-}
\ No newline at end of file
+
+    public JobListResponse buildSimilarJobResponse(Job job, long applicationCount, double similarity) {
+        JobListResponse response = buildJobListResponse(job, applicationCount);
+        response.setSimilarity(similarity);
+        return response;
+    }
+
+    /**
+     * Entity tag for a single job. The counts change without an update of the job row, so they are
+     * part of the tag alongside the update time.
+     */
+    public String buildJobETag(UUID jobId, LocalDateTime updatedAt, long applicationCount, long viewCount) {
+        long version = updatedAt == null ? 0 : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + updatedAt.getNano();
+        return "\"" + jobId + "-" + Long.toHexString(version) + "-" + applicationCount + "-" + viewCount + "\"";
+    }
+
+    /**
+     * Weak entity tag for a feed page: the request parameters plus a marker of the latest job change
+     * and application count change and, for relevance-sorted pages, the ranking round. A
+     * {@code postedWithinDays} window moves continuously, so such pages also carry the current time in
+     * steps of the feed max-age; a revalidated page is never older than one step.
+     * Weak because facet counts are served from a short-lived cache.
+     */
+    public String buildFeedETag(JobFilter filter, Pageable pageable, boolean includeFacets, long rankingRound, ChangeMarker marker) {
+        String source = filter + "|" + pageable + "|" + includeFacets + "|" + rankingRound
+                + "|" + marker.lastUpdatedAt() + "|" + marker.lastDeletedAt() + "|" + marker.lastCountedAt();
+        if (filter.getPostedWithinDays() != null) {
+            source += "|" + Instant.now().getEpochSecond() / Math.max(feedMaxAge.toSeconds(), 1);
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
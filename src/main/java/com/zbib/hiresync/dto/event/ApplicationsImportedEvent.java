@@ -0,0 +1,22 @@
+package com.zbib.hiresync.dto.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A batch of imported applications to score, keyed by application id with each applicant's resume.
+ */
+@Getter
+@Builder
+public class ApplicationsImportedEvent {
+    private final String jobPost;
+    private final Map<UUID, String> resumeUrls;
+
+    public ApplicationsImportedEvent(String jobPost, Map<UUID, String> resumeUrls) {
+        this.jobPost = jobPost;
+        this.resumeUrls = resumeUrls;
+    }
+}
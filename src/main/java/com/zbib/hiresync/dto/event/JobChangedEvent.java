@@ -0,0 +1,22 @@
+package com.zbib.hiresync.dto.event;
+
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.enums.JobEventType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+public class JobChangedEvent {
+    private final UUID jobId;
+    private final JobEventType type;
+    private final Job job;
+
+    public JobChangedEvent(UUID jobId, JobEventType type, Job job) {
+        this.jobId = jobId;
+        this.type = type;
+        this.job = job;
+    }
+}
@@ -1,6 +1,7 @@
 package com.zbib.hiresync.dto.filter;
 
 import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.enums.SkillMatchMode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,11 +24,12 @@ public class ApplicationFilter {
     private ApplicationStatus status;
     private Set<ApplicationStatus> statuses;
     private Set<String> skills;
+    /** Whether applicants need all of {@code skills} (the default) or any of them. */
+    private SkillMatchMode skillMatch;
     private Integer appliedWithinDays;
     private LocalDateTime createdAfter;
     private LocalDateTime createdBefore;
     private LocalDateTime updatedAfter;
     private LocalDateTime updatedBefore;
     private String applicantEmail;
-    private String phoneNumber;
 }
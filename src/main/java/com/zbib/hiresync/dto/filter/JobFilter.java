@@ -25,7 +25,18 @@ public class JobFilter {
     
     private String city;
     private String country;
+    private String companyName;
     private Boolean remoteAllowed;
+
+    /**
+     * Also match city, country and company names by trigram similarity, tolerating typos.
+     */
+    private Boolean fuzzyMatch;
+
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    private Boolean sortByDistance;
     
     private BigDecimal minSalary;
     private BigDecimal maxSalary;
@@ -41,4 +52,8 @@ public class JobFilter {
     private Boolean active;
     
     private UUID createdById;
+
+    public boolean hasRadius() {
+        return latitude != null && longitude != null && radiusKm != null;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.zbib.hiresync.dto.request;
+
+import com.zbib.hiresync.dto.filter.ApplicationFilter;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Selects applications either by id or by a filter scoped to one job ({@code filter.jobId}).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateApplicationStatusRequest {
+
+    @Size(max = 1000, message = "At most 1000 applications can be updated at once")
+    private List<UUID> applicationIds;
+
+    private ApplicationFilter filter;
+
+    @NotNull(message = "Application status is required")
+    private ApplicationStatus status;
+
+    @Size(max = 5000, message = "Notes must be less than 5000 characters")
+    private String notes;
+}
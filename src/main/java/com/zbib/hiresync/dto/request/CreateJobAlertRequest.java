@@ -0,0 +1,24 @@
+package com.zbib.hiresync.dto.request;
+
+import com.zbib.hiresync.dto.filter.JobFilter;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateJobAlertRequest {
+
+    @NotBlank(message = "Alert name is required")
+    @Size(max = 100, message = "Alert name must be less than 100 characters")
+    private String name;
+
+    @NotNull(message = "Alert filter is required")
+    private JobFilter filter;
+}
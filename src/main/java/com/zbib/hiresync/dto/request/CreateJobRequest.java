@@ -2,6 +2,9 @@ package com.zbib.hiresync.dto.request;
 
 import com.zbib.hiresync.enums.EmploymentType;
 import com.zbib.hiresync.enums.WorkplaceType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -39,6 +42,14 @@ public class CreateJobRequest {
 
     private String location;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     @NotNull(message = "Workplace type is required")
     private WorkplaceType workplaceType;
 
@@ -55,4 +66,7 @@ public class CreateJobRequest {
     private String currency;
 
     private boolean active;
+
+    @Future(message = "Visible until must be in the future")
+    private LocalDateTime visibleUntil;
 }
\ No newline at end of file
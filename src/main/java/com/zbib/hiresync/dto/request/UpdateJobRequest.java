@@ -2,6 +2,9 @@ package com.zbib.hiresync.dto.request;
 
 import com.zbib.hiresync.enums.EmploymentType;
 import com.zbib.hiresync.enums.WorkplaceType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -36,6 +39,14 @@ public class UpdateJobRequest {
 
     private String location;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     private WorkplaceType workplaceType;
 
     private EmploymentType employmentType;
@@ -53,5 +64,6 @@ public class UpdateJobRequest {
 
     private Set<String> tags;
 
+    @Future(message = "Visible until must be in the future")
     private LocalDateTime visibleUntil;
 } 
\ No newline at end of file
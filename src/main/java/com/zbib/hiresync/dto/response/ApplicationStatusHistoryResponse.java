@@ -0,0 +1,26 @@
+package com.zbib.hiresync.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusHistoryResponse {
+    private ApplicationStatus fromStatus;
+    private ApplicationStatus toStatus;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String notes;
+
+    private UUID changedBy;
+    private LocalDateTime changedAt;
+}
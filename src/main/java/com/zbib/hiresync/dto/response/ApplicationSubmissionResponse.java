@@ -0,0 +1,23 @@
+package com.zbib.hiresync.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.zbib.hiresync.enums.SubmissionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationSubmissionResponse {
+    private UUID trackingId;
+    private UUID jobId;
+    private SubmissionStatus status;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String message;
+}
@@ -0,0 +1,33 @@
+package com.zbib.hiresync.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.enums.BulkUpdateOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationStatusResponse {
+    private int updated;
+    private List<Item> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private UUID applicationId;
+        private BulkUpdateOutcome outcome;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private ApplicationStatus previousStatus;
+    }
+}
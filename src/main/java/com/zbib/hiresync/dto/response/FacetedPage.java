@@ -0,0 +1,23 @@
+package com.zbib.hiresync.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * Page that additionally serializes facet counts computed for the same filter.
+ */
+public class FacetedPage<T> extends PageImpl<T> {
+
+    private final JobFacetsResponse facets;
+
+    public FacetedPage(Page<T> page, JobFacetsResponse facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public JobFacetsResponse getFacets() {
+        return facets;
+    }
+}
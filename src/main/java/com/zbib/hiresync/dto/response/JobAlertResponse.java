@@ -0,0 +1,21 @@
+package com.zbib.hiresync.dto.response;
+
+import com.zbib.hiresync.dto.filter.JobFilter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobAlertResponse {
+    private UUID id;
+    private String name;
+    private JobFilter filter;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.zbib.hiresync.dto.response;
+
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFacetsResponse {
+    private Map<EmploymentType, Long> employmentTypes;
+    private Map<WorkplaceType, Long> workplaceTypes;
+    private Map<String, Long> currencies;
+}
@@ -1,5 +1,6 @@
 package com.zbib.hiresync.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.zbib.hiresync.enums.EmploymentType;
 import com.zbib.hiresync.enums.WorkplaceType;
 import lombok.AllArgsConstructor;
@@ -22,4 +23,10 @@ public class JobListResponse {
     private boolean active;
     private long applicationCount;
     private LocalDateTime createdAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double similarity;
 } 
\ No newline at end of file
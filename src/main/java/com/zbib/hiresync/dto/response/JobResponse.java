@@ -1,5 +1,6 @@
 package com.zbib.hiresync.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.zbib.hiresync.enums.EmploymentType;
 import com.zbib.hiresync.enums.WorkplaceType;
 import lombok.AllArgsConstructor;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -30,6 +32,14 @@ public class JobResponse {
     private String currency;
     private boolean active;
     private long applicationCount;
+    private long viewCount;
+    private LocalDateTime expiresAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Active jobs of the same owner that this newly created job nearly duplicates.
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<UUID> possibleDuplicates;
 } 
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.zbib.hiresync.dto.response;
+
+import com.zbib.hiresync.enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSuggestionResponse {
+    private String text;
+    private SuggestionType type;
+    private long jobCount;
+}
@@ -1,27 +1,45 @@
 package com.zbib.hiresync.entity;
 
 import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Data
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "applications")
+@Table(
+    name = "applications",
+    uniqueConstraints = {
+        @UniqueConstraint(name = Application.JOB_APPLICANT_CONSTRAINT, columnNames = {"job_id", "applicant_email"}),
+        @UniqueConstraint(name = Application.IDEMPOTENCY_KEY_CONSTRAINT, columnNames = "idempotency_key")
+    }
+)
 public class Application {
 
+    public static final String JOB_APPLICANT_CONSTRAINT = "uk_application_job_applicant_email";
+    public static final String IDEMPOTENCY_KEY_CONSTRAINT = "uk_application_idempotency_key";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -64,6 +82,30 @@ public class Application {
 
     @Column(name = "summary", length = 1000)
     private String summary;
+
+    /**
+     * Client-supplied key of the submitting request, so a retried POST returns this application.
+     */
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    /**
+     * Lower-cased name, email, notes and summary, kept in step with those fields and covered by
+     * a {@code (job_id, search_text)} GIN trigram index for applicant search within a posting.
+     */
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
+    /**
+     * Canonical skills found in the resume when the application was scored.
+     */
+    @ElementCollection
+    @CollectionTable(name = "application_skills", joinColumns = @JoinColumn(name = "application_id"))
+    @Column(name = "skill", nullable = false, length = 100)
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<String> skills = new HashSet<>();
     
     public boolean isActive() {
         return !isInTerminalState();
@@ -75,16 +117,20 @@ public class Application {
                status == ApplicationStatus.OFFER_ACCEPTED;
     }
     
-    public void updateStatus(ApplicationStatus newStatus, String statusChangeNotes) {
+    @PrePersist
+    @PreUpdate
+    public void refreshSearchText() {
+        searchText = Stream.of(firstName, lastName, applicantEmail, notes, summary)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "))
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Sets the new status. The change itself, with its notes, is recorded as an
+     * {@link ApplicationStatusHistory} row by the caller.
+     */
+    public void updateStatus(ApplicationStatus newStatus) {
         this.status = newStatus;
-        
-        if (statusChangeNotes != null && !statusChangeNotes.trim().isEmpty()) {
-            if (this.notes == null || this.notes.trim().isEmpty()) {
-                this.notes = statusChangeNotes;
-            } else {
-                this.notes = this.notes + "\n\n" + LocalDateTime.now() + " - Status changed to " + 
-                        newStatus + ": " + statusChangeNotes;
-            }
-        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.zbib.hiresync.entity;
+
+import com.zbib.hiresync.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Number of a job's applications in one status, kept up to date by status changes. New
+ * applications are not counted here: they only bump the sharded job counter, and the number still
+ * {@code SUBMITTED} is that total minus the other statuses, so applicants never contend on these rows.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ApplicationStatusCount.Key.class)
+@Table(
+    name = "application_status_counts",
+    indexes = {
+        @Index(name = "idx_application_status_count_owner", columnList = "owner_id")
+    }
+)
+public class ApplicationStatusCount {
+
+    @Id
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ApplicationStatus status;
+
+    @Column(name = "owner_id", nullable = false)
+    private UUID ownerId;
+
+    @Column(name = "applications", nullable = false)
+    private long applications;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID jobId;
+        private ApplicationStatus status;
+    }
+}
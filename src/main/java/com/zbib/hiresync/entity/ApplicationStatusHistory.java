@@ -0,0 +1,57 @@
+package com.zbib.hiresync.entity;
+
+import com.zbib.hiresync.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One status change of an application. Rows are only ever inserted, in the transaction that
+ * changes the status, so the history can be paged and analysed without rewriting the application.
+ */
+@Data
+@Entity
+@Builder
+@Immutable
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+    name = "application_status_history",
+    indexes = {
+        @Index(name = "idx_application_status_history_application", columnList = "application_id, created_at")
+    }
+)
+public class ApplicationStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "application_id", nullable = false)
+    private UUID applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", nullable = false)
+    private ApplicationStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private ApplicationStatus toStatus;
+
+    @Column(name = "notes", columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "changed_by")
+    private UUID changedBy;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
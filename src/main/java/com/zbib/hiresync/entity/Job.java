@@ -2,6 +2,9 @@ package com.zbib.hiresync.entity;
 
 import com.zbib.hiresync.enums.EmploymentType;
 import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.id.GeneratedUuidV7;
+import com.zbib.hiresync.search.MinHash;
+import com.zbib.hiresync.search.SimHash;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,8 +26,8 @@ import static org.apache.commons.lang3.StringUtils.truncate;
 @Table(
     name = "jobs",
     indexes = {
-        @Index(name = "idx_job_active", columnList = "active"),
         @Index(name = "idx_job_created_at", columnList = "created_at"),
+        @Index(name = "idx_job_updated_at", columnList = "updated_at"),
         @Index(name = "idx_job_workplace_type", columnList = "workplace_type"),
         @Index(name = "idx_job_employment_type", columnList = "employment_type"),
         @Index(name = "idx_job_min_salary", columnList = "min_salary"),
@@ -32,7 +35,8 @@ import static org.apache.commons.lang3.StringUtils.truncate;
         @Index(name = "idx_job_currency", columnList = "currency"),
         @Index(name = "idx_job_created_by_id", columnList = "created_by_id"),
         @Index(name = "idx_job_title_text", columnList = "title"),
-        @Index(name = "idx_job_company_name", columnList = "company_name")
+        @Index(name = "idx_job_company_name", columnList = "company_name"),
+        @Index(name = "idx_job_ranking_score", columnList = "ranking_score DESC, id")
     }
 )
 @Builder
@@ -41,7 +45,7 @@ import static org.apache.commons.lang3.StringUtils.truncate;
 public class Job {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(name = "title", nullable = false, length = 100)
@@ -84,6 +88,12 @@ public class Job {
     @Column(name = "active", nullable = false)
     private boolean active;
 
+    /**
+     * When the posting stops being shown; {@link com.zbib.hiresync.service.JobExpiryService} deactivates it.
+     */
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -95,19 +105,34 @@ public class Job {
     @Builder.Default
     private List<Application> applications = new ArrayList<>();
 
-    @Column(name = "application_count", nullable = false)
+    /**
+     * Applications already folded in from the sharded counter; the live count is maintained by
+     * {@link com.zbib.hiresync.service.JobApplicationCounterService}. Not updatable through the
+     * entity, so saving a job never overwrites a concurrent compaction.
+     */
+    @Column(name = "application_count", nullable = false, updatable = false)
     private int applicationCount = 0;
 
-    public boolean isOwnedBy(User user) {
-        return this.user != null && this.user.getId().equals(user.getId());
-    }
+    /**
+     * Feed relevance, recomputed in batches by {@link com.zbib.hiresync.service.JobRankingService}.
+     */
+    @Column(name = "ranking_score", nullable = false, columnDefinition = "DOUBLE PRECISION DEFAULT 0")
+    private double rankingScore;
 
-    public boolean hasApplications() {
-        return this.applicationCount > 0;
-    }
+    /**
+     * {@link MinHash} signature of title, description and requirements.
+     */
+    @Column(name = "minhash_signature", length = MinHash.SIGNATURE_BYTES)
+    private byte[] minhashSignature;
+
+    /**
+     * {@link SimHash} fingerprint used to detect reposts by the same owner.
+     */
+    @Column(name = "simhash")
+    private Long simhash;
 
-    public void incrementApplicationCount() {
-        this.applicationCount++;
+    public boolean isOwnedBy(User user) {
+        return this.user != null && this.user.getId().equals(user.getId());
     }
 
     @Override
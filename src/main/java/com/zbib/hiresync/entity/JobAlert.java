@@ -0,0 +1,60 @@
+package com.zbib.hiresync.entity;
+
+import com.zbib.hiresync.dto.filter.JobFilter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A candidate's saved job search; new postings matching {@link #criteria} produce notifications.
+ * Deleting an alert only deactivates it so other nodes see the change when they poll {@code updated_at}.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+    name = "job_alerts",
+    indexes = {
+        @Index(name = "idx_job_alert_user_id", columnList = "user_id"),
+        @Index(name = "idx_job_alert_updated_at", columnList = "updated_at")
+    }
+)
+public class JobAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "criteria", nullable = false)
+    private JobFilter criteria;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,61 @@
+package com.zbib.hiresync.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox row for a job that matched an alert. Written in the transaction that created the job
+ * and delivered later in batches; {@code sentAt} stays null until delivery succeeds. A failed
+ * delivery is retried no earlier than {@code nextAttemptAt}, backing off with every attempt.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+    name = "job_alert_notifications",
+    indexes = {
+        @Index(name = "idx_job_alert_notification_pending", columnList = "sent_at, created_at")
+    }
+)
+public class JobAlertNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "alert_id", nullable = false)
+    private JobAlert alert;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "job_title", nullable = false, length = 100)
+    private String jobTitle;
+
+    @Column(name = "company_name", nullable = false, length = 100)
+    private String companyName;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+}
@@ -0,0 +1,57 @@
+package com.zbib.hiresync.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One slot of a job's sharded application counter. New applications increment a random slot, so
+ * concurrent applicants to the same job rarely wait on the same row lock; the job's count is
+ * {@code jobs.application_count} plus the sum of its slots until
+ * {@link com.zbib.hiresync.service.JobApplicationCounterService} folds the slots back into the job.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(JobApplicationCounter.Key.class)
+@Table(name = "job_application_counters", indexes = @Index(name = "idx_job_application_counter_counted_at", columnList = "counted_at"))
+public class JobApplicationCounter {
+
+    @Id
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Id
+    @Column(name = "slot", nullable = false)
+    private int slot;
+
+    @Column(name = "delta", nullable = false)
+    private long delta;
+
+    /**
+     * When an application was last counted in this slot; the latest one marks count changes for feed ETags.
+     */
+    @Column(name = "counted_at")
+    private LocalDateTime countedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID jobId;
+        private int slot;
+    }
+}
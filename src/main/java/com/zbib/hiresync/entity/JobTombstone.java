@@ -0,0 +1,35 @@
+package com.zbib.hiresync.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Marks a deleted job so nodes that did not handle the delete can drop it from their in-memory
+ * indexes. Written in the deleting transaction and pruned after a retention period by
+ * {@link com.zbib.hiresync.service.JobChangeFeedService}.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "job_tombstones", indexes = @Index(name = "idx_job_tombstone_deleted_at", columnList = "deleted_at"))
+public class JobTombstone {
+
+    @Id
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
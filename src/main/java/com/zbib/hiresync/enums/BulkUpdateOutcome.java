@@ -0,0 +1,9 @@
+package com.zbib.hiresync.enums;
+
+public enum BulkUpdateOutcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    FORBIDDEN,
+    CONFLICT
+}
@@ -0,0 +1,10 @@
+package com.zbib.hiresync.enums;
+
+/**
+ * Lifecycle changes of a job posting that in-process indexes react to
+ */
+public enum JobEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
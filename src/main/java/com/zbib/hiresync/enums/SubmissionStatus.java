@@ -0,0 +1,7 @@
+package com.zbib.hiresync.enums;
+
+public enum SubmissionStatus {
+    PENDING,
+    CREATED,
+    REJECTED
+}
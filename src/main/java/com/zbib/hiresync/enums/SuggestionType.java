@@ -0,0 +1,6 @@
+package com.zbib.hiresync.enums;
+
+public enum SuggestionType {
+    TITLE,
+    COMPANY
+}
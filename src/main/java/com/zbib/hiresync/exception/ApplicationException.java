@@ -24,6 +24,24 @@ public class ApplicationException extends AppException {
                 formatLogMessage("User " + email + " attempted to apply again to job", jobId.toString()));
     }
     
+    public static ApplicationException idempotencyKeyReused(String idempotencyKey) {
+        return new ApplicationException(UNPROCESSABLE_ENTITY,
+                "This Idempotency-Key was already used for a different application",
+                formatLogMessage("Idempotency key reused for a different application", idempotencyKey));
+    }
+
+    public static ApplicationException submissionNotFound(UUID trackingId) {
+        return new ApplicationException(NOT_FOUND,
+                "Submission not found",
+                formatLogMessage("Submission not found for this job, tracking ID", trackingId.toString()));
+    }
+
+    public static ApplicationException ingestionUnavailable(String reason) {
+        return new ApplicationException(SERVICE_UNAVAILABLE,
+                "Applications cannot be accepted right now, please retry",
+                formatLogMessage("Failed to append application submission to the write-ahead log", reason));
+    }
+
     public static ApplicationException jobNotActive(UUID jobId) {
         return new ApplicationException(BAD_REQUEST,
                 "This job is no longer accepting applications",
@@ -0,0 +1,30 @@
+package com.zbib.hiresync.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.*;
+
+public class JobAlertException extends AppException {
+
+    private JobAlertException(HttpStatus status, String userMessage, String logMessage) {
+        super(status, userMessage, logMessage);
+    }
+
+    public static JobAlertException notFound(UUID alertId) {
+        return new JobAlertException(NOT_FOUND,
+                "Job alert not found",
+                formatLogMessage("Job alert not found with ID", alertId.toString()));
+    }
+
+    public static JobAlertException limitReached(String username, int limit) {
+        return new JobAlertException(CONFLICT,
+                "You can have at most " + limit + " job alerts",
+                formatLogMessage("User reached the job alert limit", username));
+    }
+
+    private static String formatLogMessage(String message, String value) {
+        return String.format("%s: [%s]", message, value);
+    }
+}
@@ -30,6 +30,12 @@ public class JobException extends AppException {
                 formatLogMessage("Attempted to delete job with existing applications, job ID", jobId.toString()));
     }
 
+    public static JobException duplicate(UUID existingJobId) {
+        return new JobException(CONFLICT,
+                "This job nearly duplicates one of your active job postings",
+                formatLogMessage("Rejected near-duplicate of active job with ID", existingJobId.toString()));
+    }
+
     public static JobException updateNotAuthorized(UUID jobId, String username) {
         return new JobException(FORBIDDEN,
                 "You do not have permission to update this job",
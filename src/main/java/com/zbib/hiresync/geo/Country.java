@@ -0,0 +1,4 @@
+package com.zbib.hiresync.geo;
+
+public record Country(String code, String name) {
+}
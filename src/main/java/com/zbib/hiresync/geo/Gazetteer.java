@@ -0,0 +1,208 @@
+package com.zbib.hiresync.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Offline place-name index. City, state and country names and their aliases live in one
+ * {@link PrefixTrie}, so a location string is resolved with a single left-to-right
+ * longest-match scan and no network calls.
+ */
+public final class Gazetteer {
+
+    /** Shorter matches (e.g. "us", "uae") only count when they make up a whole comma-separated part. */
+    private static final int MIN_PARTIAL_MATCH_LENGTH = 4;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("\\s+-\\s+|[,/|;()]");
+    private static final Pattern DROPPED = Pattern.compile("[.'’]");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9,]+");
+
+    private final PrefixTrie<Entry> trie = new PrefixTrie<>();
+    private final Map<String, Country> countriesByCode = new HashMap<>();
+    private int placeCount;
+
+    private Gazetteer() {
+    }
+
+    /**
+     * Loads tab-separated country ({@code code, name, aliases}) and place
+     * ({@code name, country, state, latitude, longitude, population, aliases}) tables.
+     * Lines starting with '#' are comments; aliases are comma separated.
+     */
+    public static Gazetteer load(Reader countries, Reader places) throws IOException {
+        Gazetteer gazetteer = new Gazetteer();
+        for (String[] columns : readRows(countries, 3)) {
+            Country country = new Country(columns[0].toUpperCase(Locale.ROOT), columns[1]);
+            gazetteer.countriesByCode.put(country.code(), country);
+            gazetteer.addNames(new Entry(null, country, null), columns[1], columns[2]);
+            gazetteer.addNames(new Entry(null, country, null), country.code(), "");
+        }
+        Set<String> states = new HashSet<>();
+        for (String[] columns : readRows(places, 7)) {
+            Country country = gazetteer.countriesByCode.get(columns[1].toUpperCase(Locale.ROOT));
+            if (country == null) {
+                throw new IOException("Unknown country code '" + columns[1] + "' for place " + columns[0]);
+            }
+            Place place = new Place(columns[0], columns[2].isBlank() ? null : columns[2], country,
+                    Double.parseDouble(columns[3]), Double.parseDouble(columns[4]), Long.parseLong(columns[5]));
+            gazetteer.addNames(new Entry(place, country, null), columns[0], columns[6]);
+            if (place.state() != null && states.add(country.code() + ":" + place.state())) {
+                gazetteer.addNames(new Entry(null, country, place.state()), place.state(), "");
+            }
+            gazetteer.placeCount++;
+        }
+        return gazetteer;
+    }
+
+    public int placeCount() {
+        return placeCount;
+    }
+
+    public Optional<GeocodedLocation> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        List<Hint> hints = new ArrayList<>();
+        for (String part : normalize(location).split(",")) {
+            String trimmed = part.trim();
+            int position = 0;
+            while (position < trimmed.length()) {
+                PrefixTrie.Match<Entry> match = trie.longestMatch(trimmed, position);
+                if (match != null && (match.length() >= MIN_PARTIAL_MATCH_LENGTH || match.length() == trimmed.length())) {
+                    for (Entry entry : match.values()) {
+                        if (entry.place() != null) {
+                            candidates.add(new Candidate(entry.place(), candidates.size()));
+                        } else {
+                            hints.add(new Hint(entry.country(), entry.state(), match.length() >= MIN_PARTIAL_MATCH_LENGTH));
+                        }
+                    }
+                    position = match.end();
+                } else {
+                    int nextSpace = trimmed.indexOf(' ', position);
+                    position = nextSpace < 0 ? trimmed.length() : nextSpace;
+                }
+                while (position < trimmed.length() && trimmed.charAt(position) == ' ') {
+                    position++;
+                }
+            }
+        }
+
+        // A spelled-out country is authoritative; codes such as "CA" are ambiguous and only break ties.
+        List<Country> requiredCountries = hints.stream()
+                .filter(hint -> hint.strong() && hint.state() == null)
+                .map(Hint::country)
+                .toList();
+
+        Optional<Place> place = candidates.stream()
+                .filter(candidate -> requiredCountries.isEmpty() || requiredCountries.contains(candidate.place().country()))
+                .max(Comparator.<Candidate>comparingInt(candidate -> hintScore(candidate.place(), hints))
+                        .thenComparing(Comparator.comparingInt(Candidate::order).reversed())
+                        .thenComparingLong(candidate -> candidate.place().population()))
+                .map(Candidate::place);
+
+        if (place.isPresent()) {
+            return place.map(GeocodedLocation::of);
+        }
+        return hints.stream()
+                .filter(hint -> hint.state() == null)
+                .findFirst()
+                .map(hint -> GeocodedLocation.of(hint.country()));
+    }
+
+    /**
+     * Returns the canonical city name for a user-supplied city, e.g. "munchen" → "Munich".
+     */
+    public Optional<String> canonicalCity(String city) {
+        return resolve(city).map(GeocodedLocation::city);
+    }
+
+    /**
+     * Returns the canonical country name for a country name, alias or ISO code, e.g. "uae" → "United Arab Emirates".
+     */
+    public Optional<String> canonicalCountry(String country) {
+        if (country == null || country.isBlank()) {
+            return Optional.empty();
+        }
+        return trie.get(normalize(country).replace(",", " ").trim()).stream()
+                .filter(entry -> entry.place() == null && entry.state() == null)
+                .map(entry -> entry.country().name())
+                .findFirst();
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String result = DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        result = SEPARATORS.matcher(result).replaceAll(",");
+        result = DROPPED.matcher(result).replaceAll("");
+        result = NON_ALPHANUMERIC.matcher(result).replaceAll(" ");
+        return result.replaceAll(" ?, ?", ",").trim();
+    }
+
+    private void addNames(Entry entry, String name, String aliases) {
+        trie.put(normalize(name), entry);
+        for (String alias : aliases.split(",")) {
+            if (!alias.isBlank()) {
+                trie.put(normalize(alias), entry);
+            }
+        }
+    }
+
+    private static List<String[]> readRows(Reader reader, int columns) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] values = line.split("\t", -1);
+            if (values.length < columns - 1) {
+                throw new IOException("Malformed gazetteer row: " + line);
+            }
+            String[] padded = new String[columns];
+            for (int i = 0; i < columns; i++) {
+                padded[i] = i < values.length ? values[i].trim() : "";
+            }
+            rows.add(padded);
+        }
+        return rows;
+    }
+
+    private static int hintScore(Place place, List<Hint> hints) {
+        int score = 0;
+        for (Hint hint : hints) {
+            if (!hint.country().equals(place.country())) {
+                continue;
+            }
+            score += hint.state() == null ? 1 : hint.state().equals(place.state()) ? 2 : 0;
+        }
+        return score;
+    }
+
+    /**
+     * Trie payload: a place, a state ({@code state} set) or a country (only {@code country} set).
+     */
+    private record Entry(Place place, Country country, String state) {
+    }
+
+    private record Candidate(Place place, int order) {
+    }
+
+    private record Hint(Country country, String state, boolean strong) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.zbib.hiresync.geo;
+
+/**
+ * Great-circle distance helpers on a spherical Earth model.
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final double KM_PER_DEGREE_LATITUDE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private GeoDistance() {
+    }
+
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Smallest latitude/longitude box containing every point within {@code radiusKm} of the center.
+     * Longitude bounds are dropped ({@link BoundingBox#wrapsLongitude()}) near the poles or across the antimeridian.
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        if (cosLat <= 1e-9) {
+            return new BoundingBox(minLat, maxLat, -180, 180, true);
+        }
+        double lonDelta = radiusKm / (KM_PER_DEGREE_LATITUDE * cosLat);
+        double minLon = longitude - lonDelta;
+        double maxLon = longitude + lonDelta;
+        boolean wraps = lonDelta >= 180 || minLon < -180 || maxLon > 180;
+        return new BoundingBox(minLat, maxLat, minLon, maxLon, wraps);
+    }
+
+    public record BoundingBox(double minLatitude, double maxLatitude,
+                              double minLongitude, double maxLongitude,
+                              boolean wrapsLongitude) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.zbib.hiresync.geo;
+
+/**
+ * Result of resolving a free-text location. City and coordinates are null when only the country is known.
+ */
+public record GeocodedLocation(String city, String state, String country, Double latitude, Double longitude) {
+
+    static GeocodedLocation of(Place place) {
+        return new GeocodedLocation(place.name(), place.state(), place.country().name(),
+                place.latitude(), place.longitude());
+    }
+
+    static GeocodedLocation of(Country country) {
+        return new GeocodedLocation(null, null, country.name(), null, null);
+    }
+}
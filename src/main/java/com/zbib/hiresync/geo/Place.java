@@ -0,0 +1,4 @@
+package com.zbib.hiresync.geo;
+
+public record Place(String name, String state, Country country, double latitude, double longitude, long population) {
+}
@@ -0,0 +1,94 @@
+package com.zbib.hiresync.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Character trie with sorted child arrays, used for longest-match lookups of normalized names.
+ * Not thread-safe for writes; build it fully before sharing it between threads.
+ */
+public final class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>();
+
+    public void put(String key, V value) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        if (node.values == null) {
+            node.values = new ArrayList<>(1);
+        }
+        node.values.add(value);
+    }
+
+    public List<V> get(String key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node == null || node.values == null ? List.of() : node.values;
+    }
+
+    /**
+     * Finds the longest key that starts at {@code start} and ends at a word boundary of {@code text}.
+     *
+     * @return the match, or null when no key matches
+     */
+    public Match<V> longestMatch(String text, int start) {
+        Node<V> node = root;
+        Match<V> best = null;
+        for (int i = start; i < text.length(); i++) {
+            node = node.child(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            int end = i + 1;
+            if (node.values != null && (end == text.length() || text.charAt(end) == ' ')) {
+                best = new Match<>(start, end, node.values);
+            }
+        }
+        return best;
+    }
+
+    public record Match<V>(int start, int end, List<V> values) {
+        public int length() {
+            return end - start;
+        }
+    }
+
+    private static final class Node<V> {
+        private char[] labels = new char[0];
+        @SuppressWarnings("unchecked")
+        private Node<V>[] children = new Node[0];
+        private List<V> values;
+
+        private Node<V> child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node<V> childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node<V> created = new Node<>();
+
+            char[] newLabels = new char[labels.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            newLabels[insertAt] = label;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+
+            Node<V>[] newChildren = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            newChildren[insertAt] = created;
+
+            labels = newLabels;
+            children = newChildren;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.zbib.hiresync.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs in the version 7 layout: a 48-bit Unix millisecond timestamp, a 12-bit
+ * sequence and 62 random bits. Ids created later sort after earlier ones, so new rows are
+ * appended to the right edge of primary and foreign key B-trees instead of splitting random pages.
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 7L << SEQUENCE_BITS;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    /** Last issued timestamp and sequence, packed as {@code millis << 12 | sequence}. */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Returns a new id, strictly greater than every id previously issued by this JVM. Within one
+     * millisecond the sequence is incremented; once it runs out the timestamp is borrowed from the
+     * next millisecond, which also keeps ids monotonic when the wall clock steps backwards.
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long stamp = LAST.updateAndGet(last -> Math.max(now, last + 1));
+        long mostSignificant = (stamp >>> SEQUENCE_BITS) << 16 | VERSION | (stamp & ((1L << SEQUENCE_BITS) - 1));
+        long leastSignificant = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Returns the creation time, in Unix milliseconds, encoded in a version 7 id.
+     */
+    public static long timestamp(UUID id) {
+        if (id.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + id);
+        }
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
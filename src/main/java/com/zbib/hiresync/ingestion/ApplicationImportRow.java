@@ -0,0 +1,18 @@
+package com.zbib.hiresync.ingestion;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * One applicant from an ATS export, as read from a CSV record or an NDJSON line. Status and
+ * application date are optional and parsed when the row is validated.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ApplicationImportRow(@JsonAlias("first_name") String firstName,
+                                   @JsonAlias("last_name") String lastName,
+                                   @JsonAlias({"applicant_email", "applicantEmail"}) String email,
+                                   @JsonAlias("resume_url") String resumeUrl,
+                                   @JsonAlias("linkedin_url") String linkedinUrl,
+                                   String status,
+                                   @JsonAlias({"applied_at", "created_at", "createdAt"}) String appliedAt) {
+}
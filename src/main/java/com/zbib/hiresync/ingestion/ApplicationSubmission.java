@@ -0,0 +1,13 @@
+package com.zbib.hiresync.ingestion;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An application accepted in write-behind mode, as written to the {@link WriteAheadLog}.
+ * The tracking id becomes the application's id once it is stored.
+ */
+public record ApplicationSubmission(UUID trackingId, UUID jobId, String firstName, String lastName, String email,
+                                    String resumeUrl, String linkedinUrl, String idempotencyKey,
+                                    LocalDateTime submittedAt) {
+}
@@ -0,0 +1,131 @@
+package com.zbib.hiresync.ingestion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Append-only local log of newline-terminated records, split into segment files. Writers append
+ * to the open segment; a consumer {@link #seal() seals} it and processes sealed segments oldest
+ * first, deleting each once its records are safely stored elsewhere. Segments left behind by a
+ * crash are found again on the next {@link #seal()}; a torn last record is skipped.
+ */
+public final class WriteAheadLog implements Closeable {
+
+    private static final String SUFFIX = ".wal";
+
+    private final Path directory;
+    private final boolean fsync;
+    private FileChannel active;
+    private Path activePath;
+    private long activeRecords;
+    private long sequence;
+
+    public WriteAheadLog(Path directory, boolean fsync) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.fsync = fsync;
+    }
+
+    /**
+     * Appends one record; once this returns the record survives a process crash, and with
+     * {@code fsync} enabled also a power loss: both the record and, for a new segment, the
+     * directory entry naming it are forced to disk.
+     */
+    public synchronized void append(byte[] record) throws IOException {
+        if (indexOf(record, (byte) '\n') >= 0) {
+            throw new IllegalArgumentException("Records must not contain line breaks");
+        }
+        if (active == null) {
+            openSegment();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(record.length + 1).put(record).put((byte) '\n').flip();
+        while (buffer.hasRemaining()) {
+            active.write(buffer);
+        }
+        if (fsync) {
+            active.force(false);
+        }
+        activeRecords++;
+    }
+
+    /**
+     * Closes the open segment if it holds records and returns every sealed segment, oldest first.
+     */
+    public List<Path> seal() throws IOException {
+        Path open;
+        synchronized (this) {
+            if (active != null && activeRecords > 0) {
+                active.force(false);
+                active.close();
+                active = null;
+                activePath = null;
+            }
+            open = activePath;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .filter(path -> !path.equals(open))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public List<byte[]> read(Path segment) throws IOException {
+        byte[] content = Files.readAllBytes(segment);
+        List<byte[]> records = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] == '\n') {
+                if (i > start) {
+                    records.add(Arrays.copyOfRange(content, start, i));
+                }
+                start = i + 1;
+            }
+        }
+        // bytes after the last newline are a record torn by a crash mid-write
+        return records;
+    }
+
+    public void delete(Path segment) throws IOException {
+        Files.deleteIfExists(segment);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (active != null) {
+            active.force(false);
+            active.close();
+            active = null;
+        }
+    }
+
+    private void openSegment() throws IOException {
+        String name = String.format("segment-%019d-%06d%s", System.currentTimeMillis(), sequence++ % 1_000_000, SUFFIX);
+        activePath = directory.resolve(name);
+        active = FileChannel.open(activePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        activeRecords = 0;
+        if (fsync) {
+            // forcing the file does not persist its name; without this the whole segment can vanish on power loss
+            try (FileChannel parent = FileChannel.open(directory, StandardOpenOption.READ)) {
+                parent.force(true);
+            }
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte value) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -13,11 +13,45 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, UUID>, JpaSpecificationExecutor<Application> {
-    boolean existsByJobAndApplicantEmail(Job job, String email);
-}
\ No newline at end of file
+public interface ApplicationRepository extends JpaRepository<Application, UUID>, JpaSpecificationExecutor<Application>, ApplicationRepositoryCustom {
+    Optional<Application> findByIdempotencyKey(String idempotencyKey);
+
+    @Query("SELECT a.job.id FROM Application a WHERE a.id = :id")
+    Optional<UUID> findJobIdById(@Param("id") UUID id);
+
+    @Query("SELECT a.applicantEmail FROM Application a WHERE a.job.id = :jobId AND a.applicantEmail IN :emails")
+    List<String> findApplicantEmails(@Param("jobId") UUID jobId, @Param("emails") Collection<String> emails);
+
+    /**
+     * Loads what a status change needs to know about each application, including who owns its job,
+     * with a single query.
+     */
+    @Query("SELECT a.id AS id, a.status AS status, j.id AS jobId, j.user.id AS ownerId " +
+            "FROM Application a JOIN a.job j WHERE a.id IN :ids")
+    List<StatusView> findStatusViews(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT a.id AS applicationId, s AS skill FROM Application a JOIN a.skills s WHERE a.job.id = :jobId")
+    List<SkillRow> findSkillRows(@Param("jobId") UUID jobId);
+
+    interface StatusView {
+        UUID getId();
+
+        ApplicationStatus getStatus();
+
+        UUID getJobId();
+
+        UUID getOwnerId();
+    }
+
+    interface SkillRow {
+        UUID getApplicationId();
+
+        String getSkill();
+    }
+}
@@ -0,0 +1,30 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * Inserts new applications with multi-row INSERT statements in the caller's transaction,
+     * bypassing the persistence context. Ids, jobs and timestamps must already be set.
+     */
+    void insertAll(List<Application> applications);
+
+    /**
+     * Applies the status changes with one batched UPDATE in the caller's transaction. A change only
+     * applies while the row still has {@code expectedStatus}, so a concurrent edit is never
+     * overwritten.
+     *
+     * @return for each change, whether it was applied
+     */
+    boolean[] updateStatuses(List<StatusChange> changes);
+
+    record StatusChange(UUID applicationId, ApplicationStatus expectedStatus, ApplicationStatus status,
+                        LocalDateTime updatedAt) {
+    }
+}
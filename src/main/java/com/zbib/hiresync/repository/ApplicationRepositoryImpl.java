@@ -0,0 +1,68 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.Application;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
+
+    private static final int ROWS_PER_STATEMENT = 100;
+    private static final int COLUMNS = 15;
+    private static final String INSERT_PREFIX = "INSERT INTO applications (id, job_id, first_name, last_name, applicant_email, "
+            + "resume_url, linkedin_url, status, notes, created_at, updated_at, match_rate, summary, idempotency_key, search_text) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(" + String.join(", ", Collections.nCopies(COLUMNS, "?")) + ")";
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE applications SET status = ?, updated_at = ? WHERE id = ? AND status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Application> applications) {
+        for (int from = 0; from < applications.size(); from += ROWS_PER_STATEMENT) {
+            List<Application> chunk = applications.subList(from, Math.min(from + ROWS_PER_STATEMENT, applications.size()));
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDERS));
+
+            List<Object> parameters = new ArrayList<>(chunk.size() * COLUMNS);
+            for (Application application : chunk) {
+                application.refreshSearchText();
+                parameters.add(application.getId());
+                parameters.add(application.getJob().getId());
+                parameters.add(application.getFirstName());
+                parameters.add(application.getLastName());
+                parameters.add(application.getApplicantEmail());
+                parameters.add(application.getResumeUrl());
+                parameters.add(application.getLinkedinUrl());
+                parameters.add(application.getStatus().name());
+                parameters.add(application.getNotes());
+                parameters.add(Timestamp.valueOf(application.getCreatedAt()));
+                parameters.add(Timestamp.valueOf(application.getUpdatedAt()));
+                parameters.add(application.getMatchRate());
+                parameters.add(application.getSummary());
+                parameters.add(application.getIdempotencyKey());
+                parameters.add(application.getSearchText());
+            }
+            jdbcTemplate.update(sql, parameters.toArray());
+        }
+    }
+
+    @Override
+    public boolean[] updateStatuses(List<StatusChange> changes) {
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, changes.stream()
+                .map(change -> new Object[]{change.status().name(), Timestamp.valueOf(change.updatedAt()),
+                        change.applicationId(), change.expectedStatus().name()})
+                .toList());
+
+        boolean[] applied = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            applied[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+        }
+        return applied;
+    }
+}
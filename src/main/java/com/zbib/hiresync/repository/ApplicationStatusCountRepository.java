@@ -0,0 +1,33 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.ApplicationStatusCount;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ApplicationStatusCountRepository
+        extends JpaRepository<ApplicationStatusCount, ApplicationStatusCount.Key>, ApplicationStatusCountRepositoryCustom {
+
+    @Query("SELECT c.status AS status, SUM(c.applications) AS applications FROM ApplicationStatusCount c " +
+            "WHERE c.ownerId = :ownerId GROUP BY c.status")
+    List<StatusTotal> sumByStatus(@Param("ownerId") UUID ownerId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ApplicationStatusCount c WHERE c.jobId = :jobId")
+    void deleteByJobId(@Param("jobId") UUID jobId);
+
+    interface StatusTotal {
+        ApplicationStatus getStatus();
+
+        long getApplications();
+    }
+}
@@ -0,0 +1,30 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.enums.ApplicationStatus;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ApplicationStatusCountRepositoryCustom {
+
+    /**
+     * Adds the deltas in the caller's transaction with one batched UPDATE, creating missing rows
+     * first. Each (job, status) pair must appear at most once.
+     */
+    void adjust(List<CountDelta> deltas);
+
+    /**
+     * Returns the jobs whose stored counts differ from a full recount of their applications.
+     */
+    Set<UUID> findDriftedJobs();
+
+    /**
+     * Replaces the job's counts with a recount in the caller's transaction. The job's rows are
+     * locked first, so status changes running meanwhile are neither lost nor counted twice.
+     */
+    void recount(UUID jobId);
+
+    record CountDelta(UUID ownerId, UUID jobId, ApplicationStatus status, long delta) {
+    }
+}
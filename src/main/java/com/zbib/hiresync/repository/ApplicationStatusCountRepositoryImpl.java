@@ -0,0 +1,150 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.enums.ApplicationStatus;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class ApplicationStatusCountRepositoryImpl implements ApplicationStatusCountRepositoryCustom {
+
+    private static final String ADJUST_SQL =
+            "UPDATE application_status_counts SET applications = applications + ? WHERE job_id = ? AND status = ?";
+    private static final String SET_SQL =
+            "UPDATE application_status_counts SET applications = ? WHERE job_id = ? AND status = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO application_status_counts (job_id, status, owner_id, applications) VALUES (?, ?, ?, 0)";
+    private static final String STORED_SQL =
+            "SELECT job_id, status, applications FROM application_status_counts";
+    private static final String ACTUAL_SQL =
+            "SELECT job_id, status, COUNT(*) AS applications FROM applications WHERE status <> 'SUBMITTED' GROUP BY job_id, status";
+    private static final String LOCK_JOB_SQL =
+            "SELECT status FROM application_status_counts WHERE job_id = ? FOR UPDATE";
+    private static final String ACTUAL_FOR_JOB_SQL =
+            "SELECT status, COUNT(*) AS applications FROM applications WHERE job_id = ? AND status <> 'SUBMITTED' GROUP BY status";
+    private static final String OWNER_SQL =
+            "SELECT created_by_id FROM jobs WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public ApplicationStatusCountRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void adjust(List<CountDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // lock rows in a fixed order so concurrent changes cannot deadlock
+        List<CountDelta> ordered = deltas.stream()
+                .sorted(Comparator.comparing(CountDelta::jobId).thenComparing(CountDelta::status))
+                .toList();
+        int[] updated = applyDeltas(ordered);
+
+        List<CountDelta> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(ordered.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            missing.forEach(delta -> createRow(delta.jobId(), delta.status(), delta.ownerId()));
+            applyDeltas(missing);
+        }
+    }
+
+    @Override
+    public Set<UUID> findDriftedJobs() {
+        Map<UUID, Map<ApplicationStatus, Long>> stored = new HashMap<>();
+        jdbcTemplate.query(STORED_SQL, rs -> {
+            stored.computeIfAbsent(rs.getObject("job_id", UUID.class), id -> new EnumMap<>(ApplicationStatus.class))
+                    .put(ApplicationStatus.valueOf(rs.getString("status")), rs.getLong("applications"));
+        });
+        Map<UUID, Map<ApplicationStatus, Long>> actual = new HashMap<>();
+        jdbcTemplate.query(ACTUAL_SQL, rs -> {
+            actual.computeIfAbsent(rs.getObject("job_id", UUID.class), id -> new EnumMap<>(ApplicationStatus.class))
+                    .put(ApplicationStatus.valueOf(rs.getString("status")), rs.getLong("applications"));
+        });
+
+        Set<UUID> jobIds = new HashSet<>(stored.keySet());
+        jobIds.addAll(actual.keySet());
+        Set<UUID> drifted = new HashSet<>();
+        for (UUID jobId : jobIds) {
+            Map<ApplicationStatus, Long> storedCounts = stored.getOrDefault(jobId, Map.of());
+            Map<ApplicationStatus, Long> actualCounts = actual.getOrDefault(jobId, Map.of());
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                if (storedCounts.getOrDefault(status, 0L).longValue() != actualCounts.getOrDefault(status, 0L).longValue()) {
+                    drifted.add(jobId);
+                    break;
+                }
+            }
+        }
+        return drifted;
+    }
+
+    @Override
+    public void recount(UUID jobId) {
+        Set<ApplicationStatus> stored = new HashSet<>();
+        jdbcTemplate.query(LOCK_JOB_SQL, rs -> {
+            stored.add(ApplicationStatus.valueOf(rs.getString("status")));
+        }, jobId);
+        Map<ApplicationStatus, Long> actual = new EnumMap<>(ApplicationStatus.class);
+        jdbcTemplate.query(ACTUAL_FOR_JOB_SQL, rs -> {
+            actual.put(ApplicationStatus.valueOf(rs.getString("status")), rs.getLong("applications"));
+        }, jobId);
+
+        List<ApplicationStatus> missing = actual.keySet().stream().filter(status -> !stored.contains(status)).toList();
+        if (!missing.isEmpty()) {
+            List<UUID> owners = jdbcTemplate.queryForList(OWNER_SQL, UUID.class, jobId);
+            if (owners.isEmpty()) {
+                return;
+            }
+            missing.forEach(status -> createRow(jobId, status, owners.get(0)));
+        }
+
+        Set<ApplicationStatus> statuses = new HashSet<>(stored);
+        statuses.addAll(actual.keySet());
+        jdbcTemplate.batchUpdate(SET_SQL, statuses.stream()
+                .sorted()
+                .map(status -> new Object[]{actual.getOrDefault(status, 0L), jobId, status.name()})
+                .toList());
+    }
+
+    private int[] applyDeltas(List<CountDelta> deltas) {
+        int[] counts = jdbcTemplate.batchUpdate(ADJUST_SQL, deltas.stream()
+                .map(delta -> new Object[]{delta.delta(), delta.jobId(), delta.status().name()})
+                .toList());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                counts[i] = 1;
+            }
+        }
+        return counts;
+    }
+
+    private void createRow(UUID jobId, ApplicationStatus status, UUID ownerId) {
+        // created in its own transaction: a failed INSERT would abort the caller's on PostgreSQL
+        try {
+            newTransactionTemplate.executeWithoutResult(transaction ->
+                    jdbcTemplate.update(INSERT_SQL, jobId, status.name(), ownerId));
+        } catch (DuplicateKeyException e) {
+            // another status change created it concurrently
+        }
+    }
+}
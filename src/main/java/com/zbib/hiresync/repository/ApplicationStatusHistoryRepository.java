@@ -0,0 +1,15 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.ApplicationStatusHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ApplicationStatusHistoryRepository extends JpaRepository<ApplicationStatusHistory, UUID> {
+
+    Page<ApplicationStatusHistory> findByApplicationIdOrderByCreatedAtDesc(UUID applicationId, Pageable pageable);
+}
@@ -0,0 +1,30 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.JobAlertNotification;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobAlertNotificationRepository extends JpaRepository<JobAlertNotification, UUID> {
+
+    /**
+     * Locks the oldest undelivered notifications that are due, skipping rows another node is already
+     * delivering and rows still backing off after a failed delivery.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM JobAlertNotification n WHERE n.sentAt IS NULL "
+            + "AND (n.nextAttemptAt IS NULL OR n.nextAttemptAt <= :now) ORDER BY n.createdAt")
+    List<JobAlertNotification> findPendingForDelivery(@Param("now") LocalDateTime now, Pageable pageable);
+}
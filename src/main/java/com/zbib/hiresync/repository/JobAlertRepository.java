@@ -0,0 +1,30 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.JobAlert;
+import com.zbib.hiresync.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobAlertRepository extends JpaRepository<JobAlert, UUID> {
+
+    List<JobAlert> findByUserAndActiveTrueOrderByCreatedAtDesc(User user);
+
+    long countByUserAndActiveTrue(User user);
+
+    /**
+     * Reads alerts changed after the given position in {@code (updatedAt, id)} order; alerts
+     * updated at exactly {@code updatedAt} qualify when their id is greater, so callers can page
+     * through equal timestamps without offsets.
+     */
+    @Query("SELECT a FROM JobAlert a WHERE a.updatedAt > :updatedAt OR (a.updatedAt = :updatedAt AND a.id > :afterId) "
+            + "ORDER BY a.updatedAt, a.id")
+    List<JobAlert> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("afterId") UUID afterId, Pageable pageable);
+}
@@ -0,0 +1,44 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.JobApplicationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobApplicationCounterRepository
+        extends JpaRepository<JobApplicationCounter, JobApplicationCounter.Key>, JobApplicationCounterRepositoryCustom {
+
+    /**
+     * Returns the exact application count of each given job, read in one statement so a concurrent
+     * compaction is seen either entirely or not at all.
+     */
+    @Query("SELECT j.id AS jobId, j.applicationCount + COALESCE(SUM(c.delta), 0) AS applications FROM Job j " +
+            "LEFT JOIN JobApplicationCounter c ON c.jobId = j.id WHERE j.id IN :jobIds GROUP BY j.id, j.applicationCount")
+    List<JobTotal> countByJobIds(@Param("jobIds") Collection<UUID> jobIds);
+
+    /**
+     * Returns the exact application count of every job the user owns.
+     */
+    @Query("SELECT j.id AS jobId, j.applicationCount + COALESCE(SUM(c.delta), 0) AS applications FROM Job j " +
+            "LEFT JOIN JobApplicationCounter c ON c.jobId = j.id WHERE j.user.id = :ownerId GROUP BY j.id, j.applicationCount")
+    List<JobTotal> countByOwner(@Param("ownerId") UUID ownerId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM JobApplicationCounter c WHERE c.jobId = :jobId")
+    void deleteByJobId(@Param("jobId") UUID jobId);
+
+    interface JobTotal {
+        UUID getJobId();
+
+        long getApplications();
+    }
+}
@@ -0,0 +1,29 @@
+package com.zbib.hiresync.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface JobApplicationCounterRepositoryCustom {
+
+    /**
+     * Adds {@code amount} to a counter slot of the job in the caller's transaction, creating the
+     * job's slots on first use.
+     */
+    void increment(UUID jobId, int slot, int slots, long amount);
+
+    /**
+     * Returns up to {@code limit} slots holding counts not yet folded into their job.
+     */
+    List<SlotDelta> findPendingDeltas(int limit);
+
+    /**
+     * Moves the given slot values into {@code jobs.application_count} in one transaction. The
+     * total per job is unchanged at every commit, so concurrent increments and compactions on
+     * other nodes never lose or double count. {@code updated_at} is left alone: the count is not
+     * part of the job's content, and bumping it would churn ETags and change feeds every compaction.
+     */
+    void compact(List<SlotDelta> deltas);
+
+    record SlotDelta(UUID jobId, int slot, long delta) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.zbib.hiresync.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+public class JobApplicationCounterRepositoryImpl implements JobApplicationCounterRepositoryCustom {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE job_application_counters SET delta = delta + ?, counted_at = ? WHERE job_id = ? AND slot = ?";
+    private static final String INSERT_SLOT_SQL =
+            "INSERT INTO job_application_counters (job_id, slot, delta) VALUES (?, ?, 0)";
+    private static final String SLOTS_SQL =
+            "SELECT slot FROM job_application_counters WHERE job_id = ?";
+    private static final String PENDING_SQL =
+            "SELECT job_id, slot, delta FROM job_application_counters WHERE delta <> 0 ORDER BY job_id, slot LIMIT ?";
+    private static final String SUBTRACT_SQL =
+            "UPDATE job_application_counters SET delta = delta - ? WHERE job_id = ? AND slot = ?";
+    private static final String ADD_TO_JOB_SQL =
+            "UPDATE jobs SET application_count = application_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public JobApplicationCounterRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void increment(UUID jobId, int slot, int slots, long amount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(INCREMENT_SQL, amount, now, jobId, slot) > 0) {
+            return;
+        }
+        // the slots are created in their own transaction: a failed INSERT would abort the caller's on PostgreSQL
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> {
+                List<Integer> existing = jdbcTemplate.queryForList(SLOTS_SQL, Integer.class, jobId);
+                jdbcTemplate.batchUpdate(INSERT_SLOT_SQL, IntStream.range(0, slots)
+                        .filter(candidate -> !existing.contains(candidate))
+                        .mapToObj(candidate -> new Object[]{jobId, candidate})
+                        .toList());
+            });
+        } catch (DuplicateKeyException e) {
+            // another applicant created them concurrently
+        }
+        jdbcTemplate.update(INCREMENT_SQL, amount, now, jobId, slot);
+    }
+
+    @Override
+    public List<SlotDelta> findPendingDeltas(int limit) {
+        return jdbcTemplate.query(PENDING_SQL,
+                (rs, rowNum) -> new SlotDelta(rs.getObject("job_id", UUID.class), rs.getInt("slot"), rs.getLong("delta")),
+                limit);
+    }
+
+    @Override
+    public void compact(List<SlotDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // lock slots in a fixed order so concurrent compactions cannot deadlock
+        List<SlotDelta> ordered = deltas.stream()
+                .sorted(Comparator.comparing(SlotDelta::jobId).thenComparingInt(SlotDelta::slot))
+                .toList();
+        Map<UUID, Long> totals = new HashMap<>();
+        ordered.forEach(delta -> totals.merge(delta.jobId(), delta.delta(), Long::sum));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(SUBTRACT_SQL, ordered.stream()
+                    .map(delta -> new Object[]{delta.delta(), delta.jobId(), delta.slot()})
+                    .toList());
+            jdbcTemplate.batchUpdate(ADD_TO_JOB_SQL, totals.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                    .toList());
+        });
+    }
+}
@@ -1,11 +1,56 @@
 package com.zbib.hiresync.repository;
 
 import com.zbib.hiresync.entity.Job;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, UUID>, JpaSpecificationExecutor<Job> {
-} 
\ No newline at end of file
+public interface JobRepository extends JpaRepository<Job, UUID>, JpaSpecificationExecutor<Job>, JobRepositoryCustom {
+
+    @Query("SELECT j.updatedAt FROM Job j WHERE j.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    @Query("SELECT j.active FROM Job j WHERE j.id = :id")
+    Optional<Boolean> findActiveById(@Param("id") UUID id);
+
+    /**
+     * Reads everything the single-job ETag depends on without loading the entity: the update time,
+     * the exact application count and the flushed view count.
+     */
+    @Query("SELECT j.updatedAt AS updatedAt, " +
+            "j.applicationCount + COALESCE((SELECT SUM(c.delta) FROM JobApplicationCounter c WHERE c.jobId = j.id), 0) AS applications, " +
+            "COALESCE((SELECT v.viewCount FROM JobViewCount v WHERE v.jobId = j.id), 0) AS views " +
+            "FROM Job j WHERE j.id = :id")
+    Optional<JobVersion> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT j.id FROM Job j WHERE j.active = true AND j.expiresAt <= :now ORDER BY j.expiresAt")
+    List<UUID> findExpiredJobIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Deactivates the given jobs in one statement, bumping {@code updatedAt} so caches and other nodes see the change.
+     *
+     * @return number of jobs deactivated by this call
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.active = false, j.updatedAt = :now WHERE j.id IN :ids AND j.active = true")
+    int deactivateAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    interface JobVersion {
+        LocalDateTime getUpdatedAt();
+
+        long getApplications();
+
+        long getViews();
+    }
+} 
@@ -0,0 +1,69 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface JobRepositoryCustom {
+
+    /**
+     * Counts jobs matching the specification grouped by every facet dimension in a single query.
+     */
+    List<FacetCount> countFacets(Specification<Job> spec);
+
+    /**
+     * Returns the latest job update time, the latest job deletion time and the latest time an
+     * application was counted, which together change whenever any job is created, updated or deleted
+     * or gains an application. All three are read from an index, so the marker stays cheap however
+     * many jobs there are.
+     */
+    ChangeMarker findChangeMarker();
+
+    /**
+     * Reads the ranking inputs of up to {@code limit} active jobs with an id greater than {@code afterId}, in id order.
+     */
+    List<RankingInput> findRankingInputs(UUID afterId, int limit);
+
+    /**
+     * Reads the indexed fields of up to {@code limit} jobs changed after the given position, in
+     * {@code (updatedAt, id)} order. With a null {@code afterId} every job updated after
+     * {@code updatedAt} qualifies; otherwise jobs updated at exactly {@code updatedAt} qualify when
+     * their id is greater, so callers can page through equal timestamps.
+     */
+    List<JobChange> findChangesAfter(LocalDateTime updatedAt, UUID afterId, int limit);
+
+    /**
+     * Writes ranking scores with one JDBC batch, leaving {@code updated_at} untouched.
+     */
+    void updateRankingScores(Map<UUID, Double> scores);
+
+    record FacetCount(EmploymentType employmentType, WorkplaceType workplaceType, String currency, long count) {
+    }
+
+    record ChangeMarker(LocalDateTime lastUpdatedAt, LocalDateTime lastDeletedAt, LocalDateTime lastCountedAt) {
+    }
+
+    record RankingInput(UUID id, LocalDateTime createdAt, int applicationCount, boolean hasSalary,
+                        boolean hasLocation, int descriptionLength, int requirementsLength) {
+    }
+
+    /**
+     * The job columns the in-memory indexes are built from, without the entity's associations.
+     */
+    record JobChange(UUID id, LocalDateTime updatedAt, boolean active, UUID ownerId, String title,
+                     String companyName, String description, String requirements, Long simhash,
+                     byte[] minhashSignature) {
+
+        public static JobChange of(Job job) {
+            return new JobChange(job.getId(), job.getUpdatedAt(), job.isActive(),
+                    job.getUser() != null ? job.getUser().getId() : null, job.getTitle(), job.getCompanyName(),
+                    job.getDescription(), job.getRequirements(), job.getSimhash(), job.getMinhashSignature());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.Address;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.JobApplicationCounter;
+import com.zbib.hiresync.entity.JobTombstone;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class JobRepositoryImpl implements JobRepositoryCustom {
+
+    private static final String UPDATE_RANKING_SQL = "UPDATE jobs SET ranking_score = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FacetCount> countFacets(Specification<Job> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Job> root = query.from(Job.class);
+
+        Path<EmploymentType> employmentType = root.get("employmentType");
+        Path<WorkplaceType> workplaceType = root.get("workplaceType");
+        Path<String> currency = root.get("currency");
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(employmentType, workplaceType, currency, cb.count(root))
+                .groupBy(employmentType, workplaceType, currency)
+                .distinct(false);
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> new FacetCount(
+                        row.get(0, EmploymentType.class),
+                        row.get(1, WorkplaceType.class),
+                        row.get(2, String.class),
+                        row.get(3, Long.class)))
+                .toList();
+    }
+
+    @Override
+    public ChangeMarker findChangeMarker() {
+        return new ChangeMarker(latest(Job.class, "updatedAt"), latest(JobTombstone.class, "deletedAt"),
+                latest(JobApplicationCounter.class, "countedAt"));
+    }
+
+    private LocalDateTime latest(Class<?> entity, String attribute) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LocalDateTime> query = cb.createQuery(LocalDateTime.class);
+        Root<?> root = query.from(entity);
+        query.select(cb.greatest(root.<LocalDateTime>get(attribute)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public List<RankingInput> findRankingInputs(UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Job> root = query.from(Job.class);
+        Join<Job, Address> address = root.join("address", JoinType.LEFT);
+
+        Predicate active = cb.isTrue(root.get("active"));
+        query.where(afterId == null ? active : cb.and(active, cb.greaterThan(root.get("id"), afterId)));
+        query.multiselect(
+                        root.get("id"),
+                        root.get("createdAt"),
+                        root.get("applicationCount"),
+                        root.get("minSalary"),
+                        root.get("maxSalary"),
+                        address.get("id"),
+                        cb.length(root.get("description")),
+                        cb.length(root.get("requirements")))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList().stream()
+                .map(row -> new RankingInput(
+                        row.get(0, UUID.class),
+                        row.get(1, LocalDateTime.class),
+                        row.get(2, Integer.class),
+                        row.get(3) != null || row.get(4) != null,
+                        row.get(5) != null,
+                        row.get(6, Integer.class),
+                        row.get(7, Integer.class)))
+                .toList();
+    }
+
+    @Override
+    public List<JobChange> findChangesAfter(LocalDateTime updatedAt, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Job> root = query.from(Job.class);
+        Path<LocalDateTime> updated = root.get("updatedAt");
+
+        Predicate after = cb.greaterThan(updated, updatedAt);
+        query.where(afterId == null ? after : cb.or(after,
+                cb.and(cb.equal(updated, updatedAt), cb.greaterThan(root.get("id"), afterId))));
+        query.multiselect(
+                        root.get("id"),
+                        updated,
+                        root.get("active"),
+                        root.get("user").get("id"),
+                        root.get("title"),
+                        root.get("companyName"),
+                        root.get("description"),
+                        root.get("requirements"),
+                        root.get("simhash"),
+                        root.get("minhashSignature"))
+                .orderBy(cb.asc(updated), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList().stream()
+                .map(row -> new JobChange(
+                        row.get(0, UUID.class),
+                        row.get(1, LocalDateTime.class),
+                        row.get(2, Boolean.class),
+                        row.get(3, UUID.class),
+                        row.get(4, String.class),
+                        row.get(5, String.class),
+                        row.get(6, String.class),
+                        row.get(7, String.class),
+                        row.get(8, Long.class),
+                        row.get(9, byte[].class)))
+                .toList();
+    }
+
+    @Override
+    public void updateRankingScores(Map<UUID, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_RANKING_SQL, scores.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList());
+    }
+}
@@ -0,0 +1,24 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.JobTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobTombstoneRepository extends JpaRepository<JobTombstone, UUID> {
+
+    List<JobTombstone> findByDeletedAtAfterOrderByDeletedAt(LocalDateTime deletedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM JobTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,11 @@
+package com.zbib.hiresync.repository;
+
+import com.zbib.hiresync.entity.JobViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface JobViewCountRepository extends JpaRepository<JobViewCount, UUID>, JobViewCountRepositoryCustom {
+}
@@ -0,0 +1,13 @@
+package com.zbib.hiresync.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface JobViewCountRepositoryCustom {
+
+    /**
+     * Adds the given deltas to the stored view counts with one batched upsert in a single
+     * transaction, creating rows for jobs that had none. Either every delta is added or none is.
+     */
+    void addViews(Map<UUID, Long> deltas);
+}
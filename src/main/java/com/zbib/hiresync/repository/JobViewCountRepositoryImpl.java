@@ -0,0 +1,68 @@
+package com.zbib.hiresync.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class JobViewCountRepositoryImpl implements JobViewCountRepositoryCustom {
+
+    private static final String POSTGRES_UPSERT_SQL =
+            "INSERT INTO job_view_counts (job_id, view_count, updated_at) VALUES (?, ?, ?) "
+                    + "ON CONFLICT (job_id) DO UPDATE SET view_count = job_view_counts.view_count + EXCLUDED.view_count, "
+                    + "updated_at = EXCLUDED.updated_at";
+    private static final String MERGE_SQL =
+            "MERGE INTO job_view_counts c USING (VALUES (CAST(? AS UUID), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) "
+                    + "AS d (job_id, view_count, updated_at) ON c.job_id = d.job_id "
+                    + "WHEN MATCHED THEN UPDATE SET view_count = c.view_count + d.view_count, updated_at = d.updated_at "
+                    + "WHEN NOT MATCHED THEN INSERT (job_id, view_count, updated_at) VALUES (d.job_id, d.view_count, d.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile String upsertSql;
+
+    @Override
+    public void addViews(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = upsertSql();
+        // one transaction, so a failed flush adds nothing and its deltas can be retried as a whole;
+        // rows are written in key order so concurrent flushes on other nodes cannot deadlock
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue(), now})
+                .toList()));
+    }
+
+    /**
+     * PostgreSQL's MERGE can still fail with a duplicate key when two nodes insert the same job,
+     * so it gets ON CONFLICT; other databases, such as H2 in tests, use standard MERGE.
+     */
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            sql = "PostgreSQL".equals(databaseProduct()) ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    private String databaseProduct() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            return "";
+        }
+    }
+}
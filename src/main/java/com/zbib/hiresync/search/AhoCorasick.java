@@ -0,0 +1,140 @@
+package com.zbib.hiresync.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton: finds every key occurring in a text in one left-to-right pass, however
+ * many keys there are. Keys are added with {@link #put} and compiled with {@link #build};
+ * build it fully before sharing it between threads.
+ */
+public final class AhoCorasick<V> {
+
+    private final Node<V> root = new Node<>(0);
+    private boolean built;
+
+    public void put(String key, V value) {
+        if (built) {
+            throw new IllegalStateException("Cannot add keys after build()");
+        }
+        if (key.isEmpty()) {
+            return;
+        }
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        if (node.values == null) {
+            node.values = new ArrayList<>(1);
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * Links every node to the node of its longest proper suffix that is also in the trie, and to
+     * the nearest such suffix that ends a key. Nodes are visited breadth-first, so the links of
+     * every shallower node are already in place.
+     */
+    public void build() {
+        Queue<Node<V>> queue = new ArrayDeque<>();
+        for (Node<V> child : root.children) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node<V> node = queue.poll();
+            for (int i = 0; i < node.labels.length; i++) {
+                Node<V> child = node.children[i];
+                Node<V> failure = node.failure;
+                Node<V> next;
+                while ((next = failure.child(node.labels[i])) == null && failure != root) {
+                    failure = failure.failure;
+                }
+                child.failure = next == null ? root : next;
+                child.output = child.failure.values != null ? child.failure : child.failure.output;
+                queue.add(child);
+            }
+        }
+        built = true;
+    }
+
+    /**
+     * Returns every key occurrence that starts and ends at a word boundary (a space or either end
+     * of {@code text}), in order of end position. Overlapping keys, such as "spring" and
+     * "spring boot", are all reported.
+     */
+    public List<Match<V>> findAll(String text) {
+        if (!built) {
+            throw new IllegalStateException("build() must be called before matching");
+        }
+        List<Match<V>> matches = new ArrayList<>();
+        Node<V> node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char label = text.charAt(i);
+            Node<V> next;
+            while ((next = node.child(label)) == null && node != root) {
+                node = node.failure;
+            }
+            node = next == null ? root : next;
+
+            int end = i + 1;
+            if (end < text.length() && text.charAt(end) != ' ') {
+                continue;
+            }
+            for (Node<V> hit = node.values != null ? node : node.output; hit != null; hit = hit.output) {
+                int start = end - hit.depth;
+                if (start == 0 || text.charAt(start - 1) == ' ') {
+                    matches.add(new Match<>(start, end, hit.values));
+                }
+            }
+        }
+        return matches;
+    }
+
+    public record Match<V>(int start, int end, List<V> values) {
+    }
+
+    private static final class Node<V> {
+        private final int depth;
+        private char[] labels = new char[0];
+        @SuppressWarnings("unchecked")
+        private Node<V>[] children = new Node[0];
+        private List<V> values;
+        private Node<V> failure;
+        private Node<V> output;
+
+        private Node(int depth) {
+            this.depth = depth;
+        }
+
+        private Node<V> child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node<V> childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node<V> created = new Node<>(depth + 1);
+
+            char[] newLabels = new char[labels.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            newLabels[insertAt] = label;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+
+            Node<V>[] newChildren = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            newChildren[insertAt] = created;
+
+            labels = newLabels;
+            children = newChildren;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.zbib.hiresync.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index with BM25 ranking.
+ * Documents are keyed by UUID and mapped to dense int doc IDs; updates append a new doc ID
+ * and tombstone the previous one, and {@link #compactIfNeeded()} drops tombstoned documents and
+ * renumbers the survivors, so re-indexing the same documents does not grow the index.
+ */
+public final class InvertedIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x4853_4958;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double COMPACTION_RATIO = 0.25;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, PostingsList> terms = new TreeMap<>();
+    private final List<UUID> docKeys = new ArrayList<>();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private int[] docLengths = new int[64];
+    private long totalLength;
+    private int tombstones;
+
+    /**
+     * Adds or replaces a document.
+     *
+     * @param key document key
+     * @param termFrequencies term to (weighted) frequency
+     */
+    public void index(UUID key, Map<String, Integer> termFrequencies) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            if (termFrequencies.isEmpty()) {
+                return;
+            }
+
+            int docId = docKeys.size();
+            docKeys.add(key);
+            docIds.put(key, docId);
+            live.set(docId);
+
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                terms.computeIfAbsent(entry.getKey(), term -> new PostingsList()).add(docId, entry.getValue());
+                length += entry.getValue();
+            }
+            if (docId >= docLengths.length) {
+                docLengths = Arrays.copyOf(docLengths, docLengths.length * 2);
+            }
+            docLengths[docId] = length;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best matching documents. All query terms must match; the last term
+     * is also matched as a prefix so partially typed words still find results.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        List<String> tokens = TextTokenizer.tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveCount = live.cardinality();
+            if (liveCount == 0) {
+                return List.of();
+            }
+
+            List<List<PostingsList>> groups = new ArrayList<>(tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                List<PostingsList> group = resolveGroup(tokens.get(i), i == tokens.size() - 1);
+                if (group.isEmpty()) {
+                    return List.of();
+                }
+                groups.add(group);
+            }
+            groups.sort(Comparator.comparingInt(InvertedIndex::groupFrequency));
+
+            double averageLength = (double) totalLength / liveCount;
+            Map<Integer, Accumulator> accumulators = new HashMap<>();
+            for (int g = 0; g < groups.size(); g++) {
+                int groupIndex = g;
+                for (PostingsList postings : groups.get(g)) {
+                    int docFrequency = Math.min(postings.docFrequency(), liveCount);
+                    double idf = Math.log(1 + (liveCount - docFrequency + 0.5) / (docFrequency + 0.5));
+                    postings.forEach((docId, frequency) -> {
+                        if (!live.get(docId)) {
+                            return;
+                        }
+                        Accumulator accumulator = accumulators.get(docId);
+                        if (groupIndex == 0) {
+                            if (accumulator == null) {
+                                accumulator = new Accumulator();
+                                accumulators.put(docId, accumulator);
+                            }
+                        } else if (accumulator == null || accumulator.lastGroup < groupIndex - 1) {
+                            return;
+                        }
+                        double norm = K1 * (1 - B + B * docLengths[docId] / averageLength);
+                        accumulator.score += idf * frequency * (K1 + 1) / (frequency + norm);
+                        accumulator.lastGroup = groupIndex;
+                    });
+                }
+            }
+
+            int lastGroup = groups.size() - 1;
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::score));
+            accumulators.forEach((docId, accumulator) -> {
+                if (accumulator.lastGroup != lastGroup) {
+                    return;
+                }
+                if (top.size() < limit) {
+                    top.add(new SearchHit(docKeys.get(docId), accumulator.score));
+                } else if (top.peek().score() < accumulator.score) {
+                    top.poll();
+                    top.add(new SearchHit(docKeys.get(docId), accumulator.score));
+                }
+            });
+
+            List<SearchHit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops tombstoned documents once they exceed a quarter of live ones, renumbering the
+     * remaining doc IDs densely in their original order.
+     */
+    public boolean compactIfNeeded() {
+        lock.writeLock().lock();
+        try {
+            if (tombstones == 0 || tombstones < live.cardinality() * COMPACTION_RATIO) {
+                return false;
+            }
+            int[] renumbering = new int[docKeys.size()];
+            Arrays.fill(renumbering, -1);
+            List<UUID> keptKeys = new ArrayList<>(docKeys.size() - tombstones);
+            int[] keptLengths = new int[Math.max(64, docKeys.size() - tombstones)];
+            for (int docId = live.nextSetBit(0); docId >= 0; docId = live.nextSetBit(docId + 1)) {
+                int newDocId = keptKeys.size();
+                renumbering[docId] = newDocId;
+                keptKeys.add(docKeys.get(docId));
+                keptLengths[newDocId] = docLengths[docId];
+            }
+
+            var iterator = terms.entrySet().iterator();
+            while (iterator.hasNext()) {
+                var entry = iterator.next();
+                PostingsList compacted = entry.getValue().compact(renumbering);
+                if (compacted.docFrequency() == 0) {
+                    iterator.remove();
+                } else {
+                    entry.setValue(compacted);
+                }
+            }
+
+            docKeys.clear();
+            docKeys.addAll(keptKeys);
+            docIds.clear();
+            for (int docId = 0; docId < keptKeys.size(); docId++) {
+                docIds.put(keptKeys.get(docId), docId);
+            }
+            docLengths = keptLengths;
+            live.clear();
+            live.set(0, keptKeys.size());
+            tombstones = 0;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the index to a memory-mapped file, replacing the target atomically.
+     *
+     * @param watermark caller-defined position (e.g. last indexed update time) stored alongside the data
+     */
+    public void writeSnapshot(Path path, long watermark) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        lock.readLock().lock();
+        try {
+            long size = Integer.BYTES * 3L + Long.BYTES * 2L;
+            size += (long) docKeys.size() * (Long.BYTES * 2 + Integer.BYTES + 1);
+            size += Integer.BYTES;
+            List<byte[]> encodedTerms = new ArrayList<>(terms.size());
+            for (Map.Entry<String, PostingsList> entry : terms.entrySet()) {
+                byte[] term = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                encodedTerms.add(term);
+                size += Integer.BYTES + term.length + entry.getValue().serializedSize();
+            }
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(SNAPSHOT_MAGIC);
+                buffer.putInt(SNAPSHOT_VERSION);
+                buffer.putLong(watermark);
+                buffer.putLong(totalLength);
+                buffer.putInt(docKeys.size());
+                for (int docId = 0; docId < docKeys.size(); docId++) {
+                    UUID key = docKeys.get(docId);
+                    buffer.putLong(key.getMostSignificantBits());
+                    buffer.putLong(key.getLeastSignificantBits());
+                    buffer.putInt(docLengths[docId]);
+                    buffer.put((byte) (live.get(docId) ? 1 : 0));
+                }
+                buffer.putInt(terms.size());
+                int i = 0;
+                for (PostingsList postings : terms.values()) {
+                    byte[] term = encodedTerms.get(i++);
+                    buffer.putInt(term.length);
+                    buffer.put(term);
+                    postings.writeTo(buffer);
+                }
+                buffer.force();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static Snapshot readSnapshot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Unsupported search index snapshot: " + path);
+            }
+            long watermark = buffer.getLong();
+
+            InvertedIndex index = new InvertedIndex();
+            index.totalLength = buffer.getLong();
+            int docCount = buffer.getInt();
+            index.docLengths = new int[Math.max(64, docCount)];
+            for (int docId = 0; docId < docCount; docId++) {
+                UUID key = new UUID(buffer.getLong(), buffer.getLong());
+                index.docKeys.add(key);
+                index.docLengths[docId] = buffer.getInt();
+                if (buffer.get() == 1) {
+                    index.live.set(docId);
+                    index.docIds.put(key, docId);
+                }
+            }
+            index.tombstones = docCount - index.live.cardinality();
+            int termCount = buffer.getInt();
+            for (int i = 0; i < termCount; i++) {
+                byte[] term = new byte[buffer.getInt()];
+                buffer.get(term);
+                index.terms.put(new String(term, StandardCharsets.UTF_8), PostingsList.readFrom(buffer));
+            }
+            return new Snapshot(index, watermark);
+        }
+    }
+
+    private void removeInternal(UUID key) {
+        Integer docId = docIds.remove(key);
+        if (docId != null) {
+            live.clear(docId);
+            totalLength -= docLengths[docId];
+            tombstones++;
+        }
+    }
+
+    private List<PostingsList> resolveGroup(String token, boolean prefix) {
+        List<PostingsList> group = new ArrayList<>();
+        PostingsList exact = terms.get(token);
+        if (exact != null) {
+            group.add(exact);
+        }
+        if (prefix) {
+            NavigableMap<String, PostingsList> expansions = terms.subMap(token, false, token + Character.MAX_VALUE, false);
+            for (PostingsList postings : expansions.values()) {
+                if (group.size() >= MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                group.add(postings);
+            }
+        }
+        return group;
+    }
+
+    private static int groupFrequency(List<PostingsList> group) {
+        int total = 0;
+        for (PostingsList postings : group) {
+            total += postings.docFrequency();
+        }
+        return total;
+    }
+
+    private static final class Accumulator {
+        private double score;
+        private int lastGroup;
+    }
+
+    public record Snapshot(InvertedIndex index, long watermark) {
+    }
+}
@@ -0,0 +1,311 @@
+package com.zbib.hiresync.search;
+
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.geo.GeoDistance;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index of saved job searches. Each query is filed under its most selective predicate
+ * (a keyword or keyword prefix, exact city or country, currency, employment or workplace types, or
+ * a salary bucket), so matching a new job only verifies the queries filed under keys the job
+ * actually has instead of every saved search. Queries apply the feed's semantics: the last search
+ * term matches as a prefix, and fuzzy queries also accept trigram-similar names.
+ */
+public final class JobAlertPercolator {
+
+    private static final String MATCH_ALL = "*";
+    private static final int PREFIX_KEY_LENGTH = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<UUID, Query>> postings = new HashMap<>();
+    private final Map<UUID, List<String>> anchorsByAlert = new HashMap<>();
+
+    /**
+     * Adds or replaces a saved search.
+     */
+    public void add(Query query) {
+        List<String> anchors = anchors(query);
+        lock.writeLock().lock();
+        try {
+            removeInternal(query.alertId());
+            for (String anchor : anchors) {
+                postings.computeIfAbsent(anchor, key -> new HashMap<>()).put(query.alertId(), query);
+            }
+            anchorsByAlert.put(query.alertId(), anchors);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID alertId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(alertId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return anchorsByAlert.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every saved search the job satisfies.
+     */
+    public List<Query> match(Document document) {
+        List<String> keys = keys(document);
+        Map<UUID, Query> candidates = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String key : keys) {
+                Map<UUID, Query> queries = postings.get(key);
+                if (queries != null) {
+                    candidates.putAll(queries);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Query> matches = new ArrayList<>();
+        for (Query query : candidates.values()) {
+            if (query.matches(document)) {
+                matches.add(query);
+            }
+        }
+        return matches;
+    }
+
+    private void removeInternal(UUID alertId) {
+        List<String> anchors = anchorsByAlert.remove(alertId);
+        if (anchors == null) {
+            return;
+        }
+        for (String anchor : anchors) {
+            Map<UUID, Query> queries = postings.get(anchor);
+            if (queries != null) {
+                queries.remove(alertId);
+                if (queries.isEmpty()) {
+                    postings.remove(anchor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Picks the keys a query is filed under, most selective first. A job must carry at least one of
+     * them to match, so it is enough to file the query under a single predicate.
+     */
+    private static List<String> anchors(Query query) {
+        if (!query.keywords().isEmpty()) {
+            String longest = query.keywords().stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+            return List.of(keywordKey(longest));
+        }
+        if (query.keywordPrefix() != null) {
+            String prefix = query.keywordPrefix();
+            return List.of(prefixKey(prefix.substring(0, Math.min(prefix.length(), PREFIX_KEY_LENGTH))));
+        }
+        if (query.city() != null && query.exactCity()) {
+            return List.of(cityKey(query.city()));
+        }
+        if (query.country() != null && query.exactCountry()) {
+            return List.of(countryKey(query.country()));
+        }
+        if (query.currency() != null) {
+            return List.of(currencyKey(query.currency()));
+        }
+        if (!query.employmentTypes().isEmpty()) {
+            return query.employmentTypes().stream().map(JobAlertPercolator::employmentKey).toList();
+        }
+        if (!query.workplaceTypes().isEmpty()) {
+            return query.workplaceTypes().stream().map(JobAlertPercolator::workplaceKey).toList();
+        }
+        if (query.minSalary() != null) {
+            return List.of(salaryKey(salaryBucket(query.minSalary())));
+        }
+        return List.of(MATCH_ALL);
+    }
+
+    private static List<String> keys(Document document) {
+        List<String> keys = new ArrayList<>(document.tokens().size() + 32);
+        for (String token : document.tokens()) {
+            keys.add(keywordKey(token));
+            for (int length = 1; length <= Math.min(token.length(), PREFIX_KEY_LENGTH); length++) {
+                keys.add(prefixKey(token.substring(0, length)));
+            }
+        }
+        if (document.city() != null) {
+            keys.add(cityKey(document.city()));
+        }
+        if (document.country() != null) {
+            keys.add(countryKey(document.country()));
+        }
+        if (document.currency() != null) {
+            keys.add(currencyKey(document.currency()));
+        }
+        if (document.employmentType() != null) {
+            keys.add(employmentKey(document.employmentType()));
+        }
+        if (document.workplaceType() != null) {
+            keys.add(workplaceKey(document.workplaceType()));
+        }
+        if (document.maxSalary() != null) {
+            // a minimum-salary query is satisfied by any job paying at least as much, i.e. all lower buckets
+            for (int bucket = 0; bucket <= salaryBucket(document.maxSalary()); bucket++) {
+                keys.add(salaryKey(bucket));
+            }
+        }
+        keys.add(MATCH_ALL);
+        return keys;
+    }
+
+    private static int salaryBucket(BigDecimal salary) {
+        long value = Math.max(0, salary.longValue());
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    private static String keywordKey(String keyword) {
+        return "kw:" + keyword;
+    }
+
+    private static String prefixKey(String prefix) {
+        return "kwp:" + prefix;
+    }
+
+    private static String cityKey(String city) {
+        return "city:" + city;
+    }
+
+    private static String countryKey(String country) {
+        return "country:" + country;
+    }
+
+    private static String currencyKey(String currency) {
+        return "cur:" + currency;
+    }
+
+    private static String employmentKey(EmploymentType type) {
+        return "emp:" + type;
+    }
+
+    private static String workplaceKey(WorkplaceType type) {
+        return "wp:" + type;
+    }
+
+    private static String salaryKey(int bucket) {
+        return "sal:" + bucket;
+    }
+
+    /**
+     * A saved search compiled for matching. Every search term but the last must occur as a token
+     * ({@code keywords}); the last must start one ({@code keywordPrefix}). Text values are lower-cased
+     * and, where the gazetteer knows them, canonical ({@code exactCity}/{@code exactCountry}); other
+     * values match as substrings or, with {@code fuzzy}, by trigram similarity.
+     */
+    public record Query(UUID alertId, UUID userId, Set<String> keywords, String keywordPrefix,
+                        String city, boolean exactCity, String country, boolean exactCountry, String companyName,
+                        boolean fuzzy, String currency, Set<EmploymentType> employmentTypes,
+                        Set<WorkplaceType> workplaceTypes, BigDecimal minSalary, BigDecimal maxSalary,
+                        Integer postedWithinDays, LocalDateTime createdAfter, LocalDateTime createdBefore,
+                        UUID ownerId, Double latitude, Double longitude, Double radiusKm) {
+
+        boolean matches(Document document) {
+            if (!document.tokens().containsAll(keywords)) {
+                return false;
+            }
+            if (keywordPrefix != null && document.tokens().stream().noneMatch(token -> token.startsWith(keywordPrefix))) {
+                return false;
+            }
+            if (city != null && !textMatches(document.city(), city, exactCity)) {
+                return false;
+            }
+            if (country != null && !textMatches(document.country(), country, exactCountry)) {
+                return false;
+            }
+            if (companyName != null && !textMatches(document.companyName(), companyName, false)) {
+                return false;
+            }
+            if (ownerId != null && !ownerId.equals(document.ownerId())) {
+                return false;
+            }
+            if (!createdWithin(document.createdAt())) {
+                return false;
+            }
+            if (currency != null && !currency.equals(document.currency())) {
+                return false;
+            }
+            if (!employmentTypes.isEmpty() && !employmentTypes.contains(document.employmentType())) {
+                return false;
+            }
+            if (!workplaceTypes.isEmpty() && !workplaceTypes.contains(document.workplaceType())) {
+                return false;
+            }
+            if (minSalary != null && (document.maxSalary() == null || document.maxSalary().compareTo(minSalary) < 0)) {
+                return false;
+            }
+            if (maxSalary != null && (document.minSalary() == null || document.minSalary().compareTo(maxSalary) > 0)) {
+                return false;
+            }
+            if (radiusKm != null) {
+                return document.latitude() != null && document.longitude() != null
+                        && GeoDistance.haversineKm(latitude, longitude, document.latitude(), document.longitude()) <= radiusKm;
+            }
+            return true;
+        }
+
+        private boolean textMatches(String value, String expected, boolean exact) {
+            if (value == null) {
+                return false;
+            }
+            if (exact) {
+                return value.equals(expected);
+            }
+            return value.contains(expected)
+                    || fuzzy && TrigramSimilarity.similarity(value, expected) >= TrigramSimilarity.DEFAULT_THRESHOLD;
+        }
+
+        private boolean createdWithin(LocalDateTime createdAt) {
+            if (postedWithinDays == null && createdAfter == null && createdBefore == null) {
+                return true;
+            }
+            if (createdAt == null) {
+                return false;
+            }
+            if (postedWithinDays != null && createdAt.isBefore(LocalDateTime.now().minusDays(postedWithinDays))) {
+                return false;
+            }
+            if (createdAfter != null && createdAt.isBefore(createdAfter)) {
+                return false;
+            }
+            return createdBefore == null || !createdAt.isAfter(createdBefore);
+        }
+    }
+
+    /**
+     * A job reduced to the attributes saved searches can filter on; text values lower-cased.
+     */
+    public record Document(Set<String> tokens, String city, String country, String companyName, String currency,
+                           EmploymentType employmentType, WorkplaceType workplaceType,
+                           BigDecimal minSalary, BigDecimal maxSalary, LocalDateTime createdAt, UUID ownerId,
+                           Double latitude, Double longitude) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.zbib.hiresync.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Locality-sensitive hashing over {@link MinHash} signatures. Each signature is cut into
+ * {@value #BANDS} bands of {@value #ROWS} rows and filed under one bucket per band; documents
+ * sharing any bucket become candidates. With these sizes pairs above roughly 0.4 Jaccard
+ * similarity collide with high probability while dissimilar pairs almost never do.
+ */
+public final class LshIndex {
+
+    private static final int BANDS = 32;
+    private static final int ROWS = MinHash.SIGNATURE_SIZE / BANDS;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Set<UUID>> buckets = new HashMap<>();
+    private final Map<UUID, int[]> signatures = new HashMap<>();
+
+    /**
+     * Adds or replaces a document's signature.
+     */
+    public void put(UUID id, int[] signature) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            signatures.put(id, signature);
+            for (int band = 0; band < BANDS; band++) {
+                buckets.computeIfAbsent(bucketKey(signature, band), key -> new HashSet<>(2)).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int[] get(UUID id) {
+        lock.readLock().lock();
+        try {
+            return signatures.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns indexed documents sharing at least one band with {@code signature}, with their
+     * estimated similarity, excluding those below {@code minSimilarity}.
+     */
+    public Map<UUID, Double> candidates(int[] signature, double minSimilarity) {
+        Map<UUID, Double> results = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < BANDS; band++) {
+                Set<UUID> bucket = buckets.get(bucketKey(signature, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (UUID id : bucket) {
+                    if (!results.containsKey(id)) {
+                        results.put(id, MinHash.similarity(signature, signatures.get(id)));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        results.values().removeIf(similarity -> similarity < minSimilarity);
+        return results;
+    }
+
+    private void removeInternal(UUID id) {
+        int[] previous = signatures.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bucketKey(previous, band);
+            Set<UUID> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private static long bucketKey(int[] signature, int band) {
+        long hash = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = MinHash.mix(hash * 31 + signature[row]);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,112 @@
+package com.zbib.hiresync.search;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MinHash signatures over word shingles. The fraction of equal positions in two signatures
+ * estimates the Jaccard similarity of the shingle sets, so texts can be compared in
+ * {@value #SIGNATURE_SIZE} integer comparisons regardless of their length.
+ * Hash seeds are fixed, so signatures stay comparable across nodes and restarts.
+ */
+public final class MinHash {
+
+    public static final int SIGNATURE_SIZE = 128;
+    public static final int SIGNATURE_BYTES = SIGNATURE_SIZE * Integer.BYTES;
+
+    private static final int SHINGLE_SIZE = 2;
+    private static final long[] SEEDS = new long[SIGNATURE_SIZE];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /**
+     * Computes the signature of the texts' combined word shingles; null when they contain no words.
+     */
+    public static int[] signature(String... texts) {
+        Set<Long> shingles = new HashSet<>();
+        for (String text : texts) {
+            addShingles(TextTokenizer.tokenize(text), shingles);
+        }
+        if (shingles.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int hash = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] first, int[] second) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SIGNATURE_BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SIGNATURE_BYTES) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_SIZE];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    private static void addShingles(List<String> tokens, Set<Long> shingles) {
+        if (tokens.size() < SHINGLE_SIZE) {
+            tokens.forEach(token -> shingles.add((long) token.hashCode()));
+            return;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= tokens.size(); i++) {
+            long hash = 0;
+            for (int j = 0; j < SHINGLE_SIZE; j++) {
+                hash = hash * 31 + tokens.get(i + j).hashCode();
+            }
+            shingles.add(mix(hash));
+        }
+    }
+
+    /**
+     * 64-bit finalizer from MurmurHash3.
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
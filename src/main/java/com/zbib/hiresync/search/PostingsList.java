@@ -0,0 +1,123 @@
+package com.zbib.hiresync.search;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Append-only postings for a single term. Doc IDs are strictly increasing and stored
+ * as variable-length deltas followed by the term frequency, so a typical posting takes 2-3 bytes.
+ */
+public final class PostingsList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] data;
+    private int length;
+    private int docFrequency;
+    private int lastDocId = -1;
+
+    public PostingsList() {
+        this.data = new byte[INITIAL_CAPACITY];
+    }
+
+    private PostingsList(byte[] data, int docFrequency, int lastDocId) {
+        this.data = data;
+        this.length = data.length;
+        this.docFrequency = docFrequency;
+        this.lastDocId = lastDocId;
+    }
+
+    public void add(int docId, int termFrequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("Doc IDs must be appended in increasing order");
+        }
+        writeVarInt(docId - lastDocId);
+        writeVarInt(termFrequency);
+        lastDocId = docId;
+        docFrequency++;
+    }
+
+    public int docFrequency() {
+        return docFrequency;
+    }
+
+    public void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int docId = -1;
+        while (position < length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            docId += delta;
+            consumer.accept(docId, frequency);
+        }
+    }
+
+    /**
+     * Returns a copy with doc IDs rewritten through {@code renumbering}; postings mapped to -1 are dropped.
+     * The mapping must preserve order so the copy stays strictly increasing.
+     */
+    public PostingsList compact(int[] renumbering) {
+        PostingsList compacted = new PostingsList();
+        forEach((docId, frequency) -> {
+            int newDocId = renumbering[docId];
+            if (newDocId >= 0) {
+                compacted.add(newDocId, frequency);
+            }
+        });
+        return compacted;
+    }
+
+    int serializedSize() {
+        return Integer.BYTES * 3 + length;
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        buffer.putInt(docFrequency);
+        buffer.putInt(lastDocId);
+        buffer.putInt(length);
+        buffer.put(data, 0, length);
+    }
+
+    static PostingsList readFrom(ByteBuffer buffer) {
+        int docFrequency = buffer.getInt();
+        int lastDocId = buffer.getInt();
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new PostingsList(bytes, docFrequency, lastDocId);
+    }
+
+    private void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    @FunctionalInterface
+    public interface PostingConsumer {
+        void accept(int docId, int termFrequency);
+    }
+}
@@ -0,0 +1,6 @@
+package com.zbib.hiresync.search;
+
+import java.util.UUID;
+
+public record SearchHit(UUID key, double score) {
+}
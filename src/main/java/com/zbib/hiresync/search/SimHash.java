@@ -0,0 +1,57 @@
+package com.zbib.hiresync.search;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 64-bit SimHash fingerprints. Every term votes on each bit with its hash, weighted by how often
+ * it occurs, so texts that differ in a few words get fingerprints a few bits apart and
+ * near-duplicates can be found by Hamming distance.
+ */
+public final class SimHash {
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(String... texts) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String text : texts) {
+            for (String token : TextTokenizer.tokenize(text)) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+        }
+
+        int[] votes = new int[Long.SIZE];
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            long hash = hash(entry.getKey());
+            int weight = entry.getValue();
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                votes[bit] += (hash >>> bit & 1) == 1 ? weight : -weight;
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * 64-bit FNV-1a, finalized so that similar strings do not share bit patterns.
+     */
+    private static long hash(String token) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return MinHash.mix(hash);
+    }
+}
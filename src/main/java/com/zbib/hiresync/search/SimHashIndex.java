@@ -0,0 +1,146 @@
+package com.zbib.hiresync.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Finds {@link SimHash} fingerprints within {@value #MAX_DISTANCE} bits of a query, per owner.
+ * Fingerprints are split into {@value #BLOCKS} 8-bit blocks; two fingerprints at most
+ * {@value #MAX_DISTANCE} bits apart agree exactly on at least one block, so each block gets its own
+ * table and a lookup only verifies fingerprints sharing a block with the query.
+ */
+public final class SimHashIndex {
+
+    public static final int MAX_DISTANCE = 7;
+
+    private static final int BLOCKS = MAX_DISTANCE + 1;
+    private static final int BLOCK_BITS = Long.SIZE / BLOCKS;
+    private static final long BLOCK_MASK = (1L << BLOCK_BITS) - 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, OwnerTables> owners = new HashMap<>();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    /**
+     * Adds or replaces a document's fingerprint.
+     */
+    public void put(UUID ownerId, UUID id, long fingerprint) {
+        Entry entry = new Entry(ownerId, id, fingerprint);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            entries.put(id, entry);
+            owners.computeIfAbsent(ownerId, key -> new OwnerTables()).add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the owner's documents within {@code maxDistance} bits of {@code fingerprint}, closest first.
+     */
+    public List<UUID> find(UUID ownerId, long fingerprint, int maxDistance) {
+        int distance = Math.min(maxDistance, MAX_DISTANCE);
+        List<Entry> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            OwnerTables tables = owners.get(ownerId);
+            if (tables == null) {
+                return List.of();
+            }
+            for (int block = 0; block < BLOCKS; block++) {
+                List<Entry> bucket = tables.tables.get(block).get(block(fingerprint, block));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry entry : bucket) {
+                    if (SimHash.distance(entry.fingerprint, fingerprint) <= distance && !matches.contains(entry)) {
+                        matches.add(entry);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort((first, second) -> Integer.compare(
+                SimHash.distance(first.fingerprint, fingerprint), SimHash.distance(second.fingerprint, fingerprint)));
+        return matches.stream().map(Entry::id).toList();
+    }
+
+    private void removeInternal(UUID id) {
+        Entry previous = entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+        OwnerTables tables = owners.get(previous.ownerId);
+        if (tables != null && tables.remove(previous)) {
+            owners.remove(previous.ownerId);
+        }
+    }
+
+    private static int block(long fingerprint, int block) {
+        return (int) (fingerprint >>> (block * BLOCK_BITS) & BLOCK_MASK);
+    }
+
+    private record Entry(UUID ownerId, UUID id, long fingerprint) {
+    }
+
+    private static final class OwnerTables {
+        private final List<Map<Integer, List<Entry>>> tables = new ArrayList<>(BLOCKS);
+        private int size;
+
+        private OwnerTables() {
+            for (int block = 0; block < BLOCKS; block++) {
+                tables.add(new HashMap<>());
+            }
+        }
+
+        private void add(Entry entry) {
+            for (int block = 0; block < BLOCKS; block++) {
+                tables.get(block).computeIfAbsent(block(entry.fingerprint, block), key -> new ArrayList<>(1)).add(entry);
+            }
+            size++;
+        }
+
+        /**
+         * @return true when the owner has no fingerprints left
+         */
+        private boolean remove(Entry entry) {
+            for (int block = 0; block < BLOCKS; block++) {
+                Map<Integer, List<Entry>> table = tables.get(block);
+                int key = block(entry.fingerprint, block);
+                List<Entry> bucket = table.get(key);
+                if (bucket != null) {
+                    bucket.remove(entry);
+                    if (bucket.isEmpty()) {
+                        table.remove(key);
+                    }
+                }
+            }
+            return --size == 0;
+        }
+    }
+}
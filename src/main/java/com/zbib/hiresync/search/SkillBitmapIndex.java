@@ -0,0 +1,125 @@
+package com.zbib.hiresync.search;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Skill → applicant index for one job. Each application gets a dense ordinal and each skill a
+ * compressed bitmap of the ordinals having it, so an ALL/ANY filter over a few skills is a
+ * handful of bitmap intersections or unions rather than a join per skill.
+ */
+public final class SkillBitmapIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> ids = new ArrayList<>();
+
+    /**
+     * Replaces the skills recorded for an application.
+     */
+    public void put(UUID applicationId, Collection<String> skills) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(applicationId);
+            if (ordinal == null) {
+                ordinal = ids.size();
+                ordinals.put(applicationId, ordinal);
+                ids.add(applicationId);
+            } else {
+                Iterator<RoaringBitmap> existing = bitmaps.values().iterator();
+                while (existing.hasNext()) {
+                    RoaringBitmap bitmap = existing.next();
+                    bitmap.remove(ordinal);
+                    if (bitmap.isEmpty()) {
+                        existing.remove();
+                    }
+                }
+            }
+            for (String skill : skills) {
+                bitmaps.computeIfAbsent(key(skill), key -> new RoaringBitmap()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the applications having every one of {@code skills}.
+     */
+    public List<UUID> matchAll(Collection<String> skills) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> selected = new ArrayList<>(skills.size());
+            for (String skill : skills) {
+                RoaringBitmap bitmap = bitmaps.get(key(skill));
+                if (bitmap == null) {
+                    return List.of();
+                }
+                selected.add(bitmap);
+            }
+            if (selected.isEmpty()) {
+                return List.of();
+            }
+            // intersect rarest first, so the running result shrinks as early as possible
+            selected.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+            RoaringBitmap result = selected.get(0).clone();
+            for (int i = 1; i < selected.size() && !result.isEmpty(); i++) {
+                result.and(selected.get(i));
+            }
+            return toIds(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the applications having at least one of {@code skills}.
+     */
+    public List<UUID> matchAny(Collection<String> skills) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> selected = new ArrayList<>(skills.size());
+            for (String skill : skills) {
+                RoaringBitmap bitmap = bitmaps.get(key(skill));
+                if (bitmap != null) {
+                    selected.add(bitmap);
+                }
+            }
+            return selected.isEmpty() ? List.of() : toIds(FastAggregation.or(selected.iterator()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<UUID> toIds(RoaringBitmap ordinalSet) {
+        List<UUID> result = new ArrayList<>(ordinalSet.getCardinality());
+        ordinalSet.forEach((int ordinal) -> result.add(ids.get(ordinal)));
+        return result;
+    }
+
+    private static String key(String skill) {
+        return skill.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,110 @@
+package com.zbib.hiresync.search;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Curated skill names and their synonyms, compiled into one {@link AhoCorasick} automaton so a
+ * resume is scanned for every skill in a single pass. Synonyms resolve to the canonical name,
+ * e.g. "k8s" → "Kubernetes".
+ */
+public final class SkillDictionary {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    /** Keeps the symbols that are part of skill names, as in "c++", "c#", "node.js" or ".net". */
+    private static final Pattern NON_SKILL = Pattern.compile("[^\\p{L}\\p{N}+#.]+");
+    /** A dot not followed by a letter or digit ends a sentence rather than belonging to a name. */
+    private static final Pattern TRAILING_DOT = Pattern.compile("\\.+(?![\\p{L}\\p{N}])");
+    private static final Pattern SPACES = Pattern.compile(" {2,}");
+
+    private final AhoCorasick<String> automaton = new AhoCorasick<>();
+    private final Map<String, String> canonicalNames = new HashMap<>();
+    private int skillCount;
+
+    private SkillDictionary() {
+    }
+
+    /**
+     * Loads tab-separated {@code name, synonyms} rows; synonyms are comma separated and lines
+     * starting with '#' are comments.
+     */
+    public static SkillDictionary load(Reader reader) throws IOException {
+        SkillDictionary dictionary = new SkillDictionary();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split("\t", -1);
+            String name = columns[0].trim();
+            if (name.isEmpty()) {
+                throw new IOException("Malformed skill row: " + line);
+            }
+            dictionary.addName(name, name);
+            if (columns.length > 1) {
+                for (String synonym : columns[1].split(",")) {
+                    if (!synonym.isBlank()) {
+                        dictionary.addName(synonym, name);
+                    }
+                }
+            }
+            dictionary.skillCount++;
+        }
+        dictionary.automaton.build();
+        return dictionary;
+    }
+
+    public int skillCount() {
+        return skillCount;
+    }
+
+    /**
+     * Returns the canonical names of the skills mentioned in {@code text}, in order of first mention.
+     */
+    public Set<String> extract(String text) {
+        Set<String> skills = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return skills;
+        }
+        for (AhoCorasick.Match<String> match : automaton.findAll(normalize(text))) {
+            skills.addAll(match.values());
+        }
+        return skills;
+    }
+
+    /**
+     * Returns the canonical name for a skill name or synonym, e.g. "postgres" → "PostgreSQL".
+     */
+    public Optional<String> canonical(String skill) {
+        return skill == null ? Optional.empty() : Optional.ofNullable(canonicalNames.get(normalize(skill)));
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String result = DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        result = NON_SKILL.matcher(result).replaceAll(" ");
+        result = TRAILING_DOT.matcher(result).replaceAll(" ");
+        return SPACES.matcher(result).replaceAll(" ").trim();
+    }
+
+    private void addName(String name, String canonical) {
+        String key = normalize(name);
+        if (key.isEmpty()) {
+            return;
+        }
+        String existing = canonicalNames.putIfAbsent(key, canonical);
+        if (existing == null) {
+            automaton.put(key, canonical);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.zbib.hiresync.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Weighted radix trie for autocomplete. Each phrase is indexed under every word-suffix
+ * ("senior java developer", "java developer", "developer") so typing any word finds it, and
+ * every node caches the highest weight below it so top-N lookups visit only the best branches.
+ *
+ * @param <T> kind of suggestion, e.g. title or company
+ */
+public final class SuggestionTrie<T> {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node<T> root = new Node<>("");
+    private final Map<String, Entry<T>> entries = new HashMap<>();
+
+    /**
+     * Changes the weight of a phrase by {@code delta}, adding it on first use and removing it once
+     * its weight drops to zero.
+     */
+    public void adjust(T kind, String text, long delta) {
+        String phrase = normalize(text);
+        if (phrase.isEmpty() || delta == 0) {
+            return;
+        }
+        String id = kind + ":" + phrase;
+
+        lock.writeLock().lock();
+        try {
+            Entry<T> entry = entries.get(id);
+            if (entry == null) {
+                if (delta < 0) {
+                    return;
+                }
+                entry = new Entry<>(kind, text.trim(), indexKeys(phrase));
+                entries.put(id, entry);
+                entry.weight = delta;
+                for (String key : entry.keys) {
+                    insert(key, entry);
+                }
+                return;
+            }
+
+            entry.weight += delta;
+            if (entry.weight <= 0) {
+                entries.remove(id);
+                for (String key : entry.keys) {
+                    remove(key, entry);
+                }
+            } else {
+                for (String key : entry.keys) {
+                    refreshPath(key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} phrases having a word that starts with {@code prefix}, heaviest first.
+     */
+    public List<Suggestion<T>> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node<T> start = find(key);
+            if (start == null) {
+                return List.of();
+            }
+
+            // nodes are ranked by the best weight below them, entries by their own weight
+            PriorityQueue<Object> queue = new PriorityQueue<>(
+                    Comparator.comparingLong(SuggestionTrie::rank).reversed());
+            queue.add(start);
+            Set<Entry<T>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<Suggestion<T>> results = new ArrayList<>(limit);
+            while (!queue.isEmpty() && results.size() < limit) {
+                Object next = queue.poll();
+                if (next instanceof Node<?> node) {
+                    @SuppressWarnings("unchecked")
+                    Node<T> typed = (Node<T>) node;
+                    queue.addAll(typed.entries);
+                    queue.addAll(Arrays.asList(typed.children));
+                } else {
+                    @SuppressWarnings("unchecked")
+                    Entry<T> entry = (Entry<T>) next;
+                    if (seen.add(entry)) {
+                        results.add(new Suggestion<>(entry.kind, entry.text, entry.weight));
+                    }
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String lower = DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return NON_WORD.matcher(lower).replaceAll(" ").trim();
+    }
+
+    private static List<String> indexKeys(String phrase) {
+        List<String> keys = new ArrayList<>();
+        keys.add(phrase);
+        for (int i = phrase.indexOf(' '); i >= 0; i = phrase.indexOf(' ', i + 1)) {
+            keys.add(phrase.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private static long rank(Object item) {
+        return item instanceof Node<?> node ? node.maxWeight : ((Entry<?>) item).weight;
+    }
+
+    private Node<T> find(String key) {
+        Node<T> node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node<T> child = node.child(key.charAt(position));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefix(child.label, key, position);
+            if (position + common == key.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    private void insert(String key, Entry<T> entry) {
+        List<Node<T>> path = new ArrayList<>();
+        Node<T> node = root;
+        path.add(node);
+        int position = 0;
+        while (position < key.length()) {
+            Node<T> child = node.child(key.charAt(position));
+            if (child == null) {
+                child = new Node<>(key.substring(position));
+                node.putChild(child);
+                node = child;
+                path.add(node);
+                break;
+            }
+            int common = commonPrefix(child.label, key, position);
+            if (common < child.label.length()) {
+                Node<T> split = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.putChild(child);
+                split.maxWeight = child.maxWeight;
+                node.putChild(split);
+                child = split;
+            }
+            node = child;
+            path.add(node);
+            position += common;
+        }
+        node.entries.add(entry);
+        refresh(path);
+    }
+
+    private void remove(String key, Entry<T> entry) {
+        List<Node<T>> path = pathTo(key);
+        if (path == null) {
+            return;
+        }
+        path.get(path.size() - 1).entries.remove(entry);
+
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node<T> node = path.get(i);
+            Node<T> parent = path.get(i - 1);
+            if (!node.entries.isEmpty()) {
+                continue;
+            }
+            if (node.children.length == 0) {
+                parent.removeChild(node);
+            } else if (node.children.length == 1) {
+                Node<T> onlyChild = node.children[0];
+                onlyChild.label = node.label + onlyChild.label;
+                parent.putChild(onlyChild);
+                path.set(i, onlyChild);
+            }
+        }
+        refresh(path);
+    }
+
+    private void refreshPath(String key) {
+        List<Node<T>> path = pathTo(key);
+        if (path != null) {
+            refresh(path);
+        }
+    }
+
+    private List<Node<T>> pathTo(String key) {
+        List<Node<T>> path = new ArrayList<>();
+        Node<T> node = root;
+        path.add(node);
+        int position = 0;
+        while (position < key.length()) {
+            node = node.child(key.charAt(position));
+            if (node == null || !key.startsWith(node.label, position)) {
+                return null;
+            }
+            path.add(node);
+            position += node.label.length();
+        }
+        return path;
+    }
+
+    private static <T> void refresh(List<Node<T>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> node = path.get(i);
+            long max = 0;
+            for (Entry<T> entry : node.entries) {
+                max = Math.max(max, entry.weight);
+            }
+            for (Node<T> child : node.children) {
+                max = Math.max(max, child.maxWeight);
+            }
+            node.maxWeight = max;
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    public record Suggestion<T>(T kind, String text, long weight) {
+    }
+
+    private static final class Entry<T> {
+        private final T kind;
+        private final String text;
+        private final List<String> keys;
+        private long weight;
+
+        private Entry(T kind, String text, List<String> keys) {
+            this.kind = kind;
+            this.text = text;
+            this.keys = keys;
+        }
+    }
+
+    private static final class Node<T> {
+        private String label;
+        private char[] labels = new char[0];
+        @SuppressWarnings("unchecked")
+        private Node<T>[] children = new Node[0];
+        private final List<Entry<T>> entries = new ArrayList<>(1);
+        private long maxWeight;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node<T> child(char first) {
+            int index = Arrays.binarySearch(labels, first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        /**
+         * Adds the child, replacing any existing child that starts with the same character.
+         */
+        private void putChild(Node<T> child) {
+            char first = child.label.charAt(0);
+            int index = Arrays.binarySearch(labels, first);
+            if (index >= 0) {
+                children[index] = child;
+                return;
+            }
+            int insertAt = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            newLabels[insertAt] = first;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+
+            Node<T>[] newChildren = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            newChildren[insertAt] = child;
+
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        private void removeChild(Node<T> child) {
+            int index = Arrays.binarySearch(labels, child.label.charAt(0));
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+
+            @SuppressWarnings("unchecked")
+            Node<T>[] newChildren = new Node[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+
+            labels = newLabels;
+            children = newChildren;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.zbib.hiresync.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits free text into lower-cased index terms.
+ * Keeps '+' and '#' inside tokens so terms like "c++" and "c#" survive.
+ */
+public final class TextTokenizer {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "our", "that", "the", "to", "we", "will", "with", "you", "your"
+    );
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c) || (c == '+' || c == '#') && !current.isEmpty()) {
+                current.append(Character.toLowerCase(c));
+            } else {
+                addToken(tokens, current);
+            }
+        }
+        addToken(tokens, current);
+        return tokens;
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void addToken(List<String> tokens, StringBuilder current) {
+        if (current.length() >= MIN_TOKEN_LENGTH && current.length() <= MAX_TOKEN_LENGTH) {
+            String token = current.toString();
+            if (!STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        current.setLength(0);
+    }
+}
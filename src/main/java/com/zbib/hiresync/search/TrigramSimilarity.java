@@ -0,0 +1,59 @@
+package com.zbib.hiresync.search;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Java port of PostgreSQL pg_trgm {@code similarity()}: words are runs of letters and digits,
+ * each padded with two leading and one trailing blank, and the score is the Jaccard index of
+ * the two trigram sets. Registered as a SQL function on databases without pg_trgm.
+ */
+public final class TrigramSimilarity {
+
+    /** Same as the pg_trgm default for {@code pg_trgm.similarity_threshold}. */
+    public static final double DEFAULT_THRESHOLD = 0.3;
+
+    private TrigramSimilarity() {
+    }
+
+    public static double similarity(String left, String right) {
+        if (left == null || right == null) {
+            return 0;
+        }
+        Set<String> leftTrigrams = trigrams(left);
+        Set<String> rightTrigrams = trigrams(right);
+        if (leftTrigrams.isEmpty() || rightTrigrams.isEmpty()) {
+            return 0;
+        }
+        int shared = 0;
+        for (String trigram : leftTrigrams) {
+            if (rightTrigrams.contains(trigram)) {
+                shared++;
+            }
+        }
+        return (double) shared / (leftTrigrams.size() + rightTrigrams.size() - shared);
+    }
+
+    static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            while (i < lower.length() && !Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < lower.length() && Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                String padded = "  " + lower.substring(start, i) + " ";
+                for (int j = 0; j + 3 <= padded.length(); j++) {
+                    trigrams.add(padded.substring(j, j + 3));
+                }
+            }
+        }
+        return trigrams;
+    }
+}
@@ -1,12 +1,15 @@
 package com.zbib.hiresync.service;
 
 import com.zbib.hiresync.dto.event.ApplicationCreatedEvent;
+import com.zbib.hiresync.dto.event.ApplicationsImportedEvent;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Component;
 
+@Log4j2
 @Component
 @EnableAsync
 public class ApplicationCreationListener {
@@ -22,4 +25,20 @@ public class ApplicationCreationListener {
     public void onApplicationCreated(ApplicationCreatedEvent event) {
         processingService.process(event);
     }
+
+    /**
+     * Scores an imported batch on one worker, so a large import queues one task per batch rather
+     * than one per applicant.
+     */
+    @EventListener
+    @Async
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        event.getResumeUrls().forEach((applicationId, resumeUrl) -> {
+            try {
+                processingService.process(new ApplicationCreatedEvent(applicationId, event.getJobPost(), resumeUrl));
+            } catch (RuntimeException e) {
+                log.warn("Failed to score imported application {}: {}", applicationId, e.getMessage());
+            }
+        });
+    }
 }
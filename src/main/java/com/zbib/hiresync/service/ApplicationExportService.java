@@ -0,0 +1,190 @@
+package com.zbib.hiresync.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.zbib.hiresync.dto.builder.ApplicationBuilder;
+import com.zbib.hiresync.dto.filter.ApplicationFilter;
+import com.zbib.hiresync.dto.response.ApplicationResponse;
+import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.FileFormat;
+import com.zbib.hiresync.exception.AuthException;
+import com.zbib.hiresync.exception.JobException;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.specification.ApplicationSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Streams all applications of a job matching a filter as CSV or NDJSON. Rows are read through a
+ * forward-only cursor on a stateless session, so nothing is kept in a persistence context and
+ * memory use does not grow with the number of applicants.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ApplicationExportService {
+
+    private static final String[] CSV_HEADER = {"id", "first_name", "last_name", "applicant_email", "resume_url",
+            "linkedin_url", "status", "match_rate", "summary", "notes", "created_at", "updated_at"};
+
+    private final JobRepository jobRepository;
+    private final UserService userService;
+    private final ApplicationSpecification applicationSpecification;
+    private final ApplicationBuilder applicationBuilder;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${hiresync.applications.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Checks access up front and returns a body that streams the export when the response is written.
+     */
+    @Transactional(readOnly = true)
+    public StreamingResponseBody export(UUID jobId, ApplicationFilter filter, FileFormat format, String username) {
+        User user = userService.findByUsernameOrThrow(username);
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> JobException.notFound(jobId));
+        if (!job.isOwnedBy(user)) {
+            throw AuthException.accessDenied("job's applications", jobId, username);
+        }
+
+        ApplicationFilter scoped = filter == null ? new ApplicationFilter() : filter;
+        scoped.setJobId(jobId);
+        return output -> {
+            long rows = switch (format) {
+                case CSV -> writeCsv(scoped, output);
+                case NDJSON -> writeNdjson(scoped, output);
+            };
+            log.info("Exported {} applications of job {} as {}", rows, jobId, format);
+        };
+    }
+
+    private long writeCsv(ApplicationFilter filter, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write("\r\n");
+        long rows = stream(filter, response -> {
+            try {
+                writer.write(csvRow(response));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return rows;
+    }
+
+    private long writeNdjson(ApplicationFilter filter, OutputStream output) throws IOException {
+        try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(output)) {
+            long rows = stream(filter, response -> {
+                try {
+                    writer.write(response);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (rows > 0) {
+                writer.flush();
+                output.write('\n');
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Reads the matching applications oldest first in one read-only transaction, handing each row
+     * to {@code sink} as soon as it is fetched.
+     */
+    private long stream(ApplicationFilter filter, Consumer<ApplicationResponse> sink) throws IOException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        try {
+            Long rows = transactionTemplate.execute(status -> entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+                try (StatelessSession session = sessionFactory.openStatelessSession(connection)) {
+                    CriteriaBuilder cb = session.getCriteriaBuilder();
+                    CriteriaQuery<Application> query = cb.createQuery(Application.class);
+                    Root<Application> root = query.from(Application.class);
+                    query.select(root)
+                            .where(applicationSpecification.buildSpecification(filter).toPredicate(root, query, cb))
+                            .orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+
+                    long count = 0;
+                    try (ScrollableResults<Application> results = session.createQuery(query)
+                            .setFetchSize(fetchSize)
+                            .scroll(ScrollMode.FORWARD_ONLY)) {
+                        while (results.next()) {
+                            sink.accept(applicationBuilder.buildApplicationResponse(results.get()));
+                            count++;
+                        }
+                    }
+                    return count;
+                }
+            }));
+            return rows == null ? 0 : rows;
+        } catch (UncheckedIOException e) {
+            // the client went away mid-download
+            throw e.getCause();
+        }
+    }
+
+    private static String csvRow(ApplicationResponse response) {
+        return Arrays.stream(new Object[]{response.getId(), response.getFirstName(), response.getLastName(),
+                        response.getApplicantEmail(), response.getResumeUrl(), response.getLinkedinUrl(), response.getStatus(),
+                        response.getMatchRate(), response.getSummary(), response.getNotes(), response.getCreatedAt(),
+                        response.getUpdatedAt()})
+                .map(ApplicationExportService::csvField)
+                .collect(Collectors.joining(",", "", "\r\n"));
+    }
+
+    /**
+     * Quotes a value per RFC 4180 and defuses values a spreadsheet would run as a formula.
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
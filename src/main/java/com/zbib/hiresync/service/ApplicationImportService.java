@@ -0,0 +1,318 @@
+package com.zbib.hiresync.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zbib.hiresync.dto.builder.ApplicationBuilder;
+import com.zbib.hiresync.dto.event.ApplicationsImportedEvent;
+import com.zbib.hiresync.dto.request.CreateApplicationRequest;
+import com.zbib.hiresync.dto.response.ApplicationImportResponse;
+import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.enums.FileFormat;
+import com.zbib.hiresync.exception.AuthException;
+import com.zbib.hiresync.exception.JobException;
+import com.zbib.hiresync.exception.ValidationException;
+import com.zbib.hiresync.id.UuidV7;
+import com.zbib.hiresync.ingestion.ApplicationImportRow;
+import com.zbib.hiresync.ingestion.CsvReader;
+import com.zbib.hiresync.repository.ApplicationRepository;
+import com.zbib.hiresync.repository.JobRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Imports applicants migrated from another ATS. The upload is parsed one row at a time and stored
+ * in batches, each with multi-row INSERTs in its own transaction, so files of any size import with
+ * flat memory and a failed batch only loses that batch. Scoring is queued once per batch.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ApplicationImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final UserService userService;
+    private final ApplicationBuilder applicationBuilder;
+    private final JobApplicationCounterService jobApplicationCounterService;
+    private final ApplicationStatsService applicationStatsService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${hiresync.applications.import.batch-size:1000}")
+    private int batchSize;
+
+    public ApplicationImportResponse importApplications(UUID jobId, MultipartFile file, FileFormat format, String username) {
+        User user = userService.findByUsernameOrThrow(username);
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> JobException.notFound(jobId));
+        if (!job.isOwnedBy(user)) {
+            throw AuthException.accessDenied("job's applications", jobId, username);
+        }
+
+        Import run = new Import(job, user.getId(), job.toString());
+        long started = System.nanoTime();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            switch (format) {
+                case CSV -> readCsv(reader, run);
+                case NDJSON -> readNdjson(reader, run);
+            }
+        } catch (IOException e) {
+            // the rows read before the file broke off are still stored and reported
+            run.reject(0, "Import stopped early: " + e.getMessage());
+        }
+        flush(run);
+        log.info("Imported {} applications into job {} in {} ms ({} duplicates, {} rejected)", run.imported, jobId,
+                (System.nanoTime() - started) / 1_000_000, run.duplicates, run.rejected);
+
+        return ApplicationImportResponse.builder()
+                .imported(run.imported)
+                .duplicates(run.duplicates)
+                .rejected(run.rejected)
+                .errors(run.errors)
+                .build();
+    }
+
+    private void readCsv(BufferedReader reader, Import run) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", ""), i);
+        }
+        if (!columns.containsKey("email")) {
+            columns.put("email", columns.get("applicantemail"));
+        }
+        if (!columns.containsKey("appliedat")) {
+            columns.put("appliedat", columns.get("createdat"));
+        }
+        if (columns.get("firstname") == null || columns.get("lastname") == null || columns.get("email") == null) {
+            throw ValidationException.invalidInput(Map.of("file", "CSV header must name first_name, last_name and email columns"));
+        }
+
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            add(run, csv.recordLine(), new ApplicationImportRow(column(record, columns, "firstname"),
+                    column(record, columns, "lastname"), column(record, columns, "email"),
+                    column(record, columns, "resumeurl"), column(record, columns, "linkedinurl"),
+                    column(record, columns, "status"), column(record, columns, "appliedat")));
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Import run) throws IOException {
+        String line;
+        long number = 0;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ApplicationImportRow row;
+            try {
+                row = objectMapper.readValue(line, ApplicationImportRow.class);
+            } catch (IOException e) {
+                run.reject(number, "Malformed JSON");
+                continue;
+            }
+            add(run, number, row);
+        }
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private void add(Import run, long line, ApplicationImportRow row) {
+        CreateApplicationRequest request = CreateApplicationRequest.builder()
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .email(row.email())
+                .resumeUrl(row.resumeUrl())
+                .linkedinUrl(row.linkedinUrl())
+                .build();
+        Set<ConstraintViolation<CreateApplicationRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            run.reject(line, violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; ")));
+            return;
+        }
+
+        Application application = applicationBuilder.buildApplication(request, run.job, null);
+        application.setId(UuidV7.next());
+        application.setResumeUrl(row.resumeUrl());
+        try {
+            if (row.status() != null) {
+                application.setStatus(ApplicationStatus.valueOf(row.status().trim().toUpperCase(Locale.ROOT)));
+            }
+            LocalDateTime appliedAt = row.appliedAt() == null ? LocalDateTime.now() : parseDate(row.appliedAt());
+            application.setCreatedAt(appliedAt);
+            application.setUpdatedAt(appliedAt);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            run.reject(line, "Invalid status or application date");
+            return;
+        }
+
+        run.batch.add(new PendingRow(line, application, row.resumeUrl()));
+        if (run.batch.size() >= batchSize) {
+            flush(run);
+        }
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atStartOfDay();
+        }
+        try {
+            return OffsetDateTime.parse(value).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(value);
+        }
+    }
+
+    /**
+     * Stores the current batch. Rows repeated within the batch count as duplicates; if the batch
+     * then conflicts with applicants already on the job, those are looked up and skipped, and only a
+     * conflict with a concurrent applicant falls back to one transaction per row.
+     */
+    private void flush(Import run) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+        List<PendingRow> batch = run.batch;
+        run.batch = new ArrayList<>(batchSize);
+
+        List<PendingRow> fresh = withoutDuplicates(run, batch, new HashSet<>());
+        List<PendingRow> stored = new ArrayList<>(fresh.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(run, fresh));
+            stored.addAll(fresh);
+        } catch (DataIntegrityViolationException e) {
+            Set<String> emails = fresh.stream().map(row -> row.application().getApplicantEmail()).collect(Collectors.toSet());
+            List<PendingRow> remaining = withoutDuplicates(run, fresh,
+                    new HashSet<>(applicationRepository.findApplicantEmails(run.job.getId(), emails)));
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(run, remaining));
+                stored.addAll(remaining);
+            } catch (DataIntegrityViolationException again) {
+                insertOneByOne(run, remaining, stored);
+            }
+        }
+        run.imported += stored.size();
+
+        Map<UUID, String> resumeUrls = new LinkedHashMap<>();
+        for (PendingRow row : stored) {
+            if (row.resumeUrl() != null) {
+                resumeUrls.put(row.application().getId(), row.resumeUrl());
+            }
+        }
+        if (!resumeUrls.isEmpty()) {
+            applicationEventPublisher.publishEvent(new ApplicationsImportedEvent(run.jobPost, resumeUrls));
+        }
+    }
+
+    private static List<PendingRow> withoutDuplicates(Import run, List<PendingRow> rows, Set<String> taken) {
+        List<PendingRow> fresh = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            if (taken.add(row.application().getApplicantEmail())) {
+                fresh.add(row);
+            } else {
+                run.duplicates++;
+            }
+        }
+        return fresh;
+    }
+
+    private void insertOneByOne(Import run, List<PendingRow> rows, List<PendingRow> stored) {
+        for (PendingRow row : rows) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(run, List.of(row)));
+                stored.add(row);
+            } catch (DataIntegrityViolationException conflict) {
+                if (ApplicationService.violates(conflict, Application.JOB_APPLICANT_CONSTRAINT)) {
+                    run.duplicates++;
+                } else {
+                    run.reject(row.line(), "The application could not be stored");
+                }
+            }
+        }
+    }
+
+    private void insert(Import run, List<PendingRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Application> applications = rows.stream().map(PendingRow::application).toList();
+        applicationRepository.insertAll(applications);
+        jobApplicationCounterService.add(run.job.getId(), applications.size());
+        applicationStatsService.recordStatusChanges(run.ownerId, applications.stream()
+                .map(application -> new ApplicationStatsService.StatusTransition(run.job.getId(),
+                        ApplicationStatus.SUBMITTED, application.getStatus()))
+                .toList());
+    }
+
+    private record PendingRow(long line, Application application, String resumeUrl) {
+    }
+
+    private final class Import {
+        private final Job job;
+        private final UUID ownerId;
+        private final String jobPost;
+        private List<PendingRow> batch = new ArrayList<>(batchSize);
+        private final List<ApplicationImportResponse.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long duplicates;
+        private long rejected;
+
+        private Import(Job job, UUID ownerId, String jobPost) {
+            this.job = job;
+            this.ownerId = ownerId;
+            this.jobPost = jobPost;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ApplicationImportResponse.RowError(line, message));
+            }
+        }
+    }
+}
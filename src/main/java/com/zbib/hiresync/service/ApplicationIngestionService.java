@@ -0,0 +1,321 @@
+package com.zbib.hiresync.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zbib.hiresync.dto.builder.ApplicationBuilder;
+import com.zbib.hiresync.dto.event.ApplicationCreatedEvent;
+import com.zbib.hiresync.dto.request.CreateApplicationRequest;
+import com.zbib.hiresync.dto.response.ApplicationSubmissionResponse;
+import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.enums.SubmissionStatus;
+import com.zbib.hiresync.exception.ApplicationException;
+import com.zbib.hiresync.exception.JobException;
+import com.zbib.hiresync.id.UuidV7;
+import com.zbib.hiresync.ingestion.ApplicationSubmission;
+import com.zbib.hiresync.ingestion.WriteAheadLog;
+import com.zbib.hiresync.repository.ApplicationRepository;
+import com.zbib.hiresync.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in write-behind path for application submissions during traffic spikes. A submission is
+ * validated, appended to a local {@link WriteAheadLog} and acknowledged with a tracking id without
+ * touching the database; a scheduled drainer stores the log in batches with multi-row INSERTs.
+ * The job is checked against a short-lived cache before the submission is accepted, and again
+ * when it is stored. Outcomes are kept in memory for an hour on the node that accepted the
+ * submission. Other nodes only know a submission once its row is stored, and report PENDING until
+ * then, so a rejection is visible only through the accepting node.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ApplicationIngestionService {
+
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final ApplicationBuilder applicationBuilder;
+    private final JobApplicationCounterService jobApplicationCounterService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${hiresync.applications.ingestion.write-behind:false}")
+    private boolean enabled;
+
+    /** No default: the log is the only copy of an acknowledged submission, so it must live on durable storage. */
+    @Value("${hiresync.applications.ingestion.wal-dir:}")
+    private String walDirectory;
+
+    @Value("${hiresync.applications.ingestion.fsync:true}")
+    private boolean fsync;
+
+    @Value("${hiresync.applications.ingestion.batch-size:500}")
+    private int batchSize;
+
+    private final Cache<UUID, ApplicationSubmissionResponse> outcomes = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    /** Whether each recently submitted-to job is active; empty when it does not exist. */
+    private final Cache<UUID, Optional<Boolean>> jobStates = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    private WriteAheadLog writeAheadLog;
+
+    @PostConstruct
+    void open() {
+        if (walDirectory.isBlank()) {
+            if (enabled) {
+                throw new IllegalStateException(
+                        "hiresync.applications.ingestion.wal-dir must name a durable directory when write-behind is enabled");
+            }
+            return;
+        }
+        // keep draining a log left over from before write-behind was switched off
+        Path directory = Path.of(walDirectory);
+        if (!enabled && !Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            writeAheadLog = new WriteAheadLog(directory, fsync);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open application write-ahead log at " + walDirectory, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Durably records the submission and returns its tracking id. Retries carrying the same
+     * idempotency key get the same tracking id, so they are stored only once.
+     */
+    public ApplicationSubmissionResponse submit(UUID jobId, CreateApplicationRequest request, String idempotencyKey) {
+        checkJob(jobId);
+        UUID trackingId = idempotencyKey == null
+                ? UuidV7.next()
+                : UUID.nameUUIDFromBytes((jobId + ":" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+        ApplicationSubmission submission = new ApplicationSubmission(trackingId, jobId, request.getFirstName(),
+                request.getLastName(), request.getEmail(), request.getResumeUrl(), request.getLinkedinUrl(),
+                idempotencyKey, LocalDateTime.now());
+        try {
+            writeAheadLog.append(objectMapper.writeValueAsBytes(submission));
+        } catch (IOException e) {
+            throw ApplicationException.ingestionUnavailable(e.getMessage());
+        }
+        return outcomes.asMap().computeIfAbsent(trackingId, id -> outcome(id, jobId, SubmissionStatus.PENDING, null));
+    }
+
+    /**
+     * Returns the outcome of a submission to the given job; a submission or application that
+     * belongs to another job is not found. A tracking id this node has no outcome for and that is
+     * not stored yet is reported as PENDING: it may be waiting in another node's log.
+     */
+    public ApplicationSubmissionResponse getSubmission(UUID jobId, UUID trackingId) {
+        ApplicationSubmissionResponse outcome = outcomes.getIfPresent(trackingId);
+        if (outcome == null) {
+            Optional<UUID> storedJobId = applicationRepository.findJobIdById(trackingId);
+            outcome = outcome(trackingId, storedJobId.orElse(jobId),
+                    storedJobId.isPresent() ? SubmissionStatus.CREATED : SubmissionStatus.PENDING, null);
+        }
+        if (!outcome.getJobId().equals(jobId)) {
+            throw ApplicationException.submissionNotFound(trackingId);
+        }
+        return outcome;
+    }
+
+    /**
+     * Rejects submissions to missing or inactive jobs up front, as the synchronous path does. The
+     * answer is cached briefly, so a spike of applicants to one job costs one lookup; if the database
+     * cannot be reached the submission is accepted and the job is checked when it is stored.
+     */
+    private void checkJob(UUID jobId) {
+        Optional<Boolean> active;
+        try {
+            active = jobStates.get(jobId, jobRepository::findActiveById);
+        } catch (DataAccessException e) {
+            log.warn("Could not check job {} before accepting a submission: {}", jobId, e.getMessage());
+            return;
+        }
+        if (active.isEmpty()) {
+            throw JobException.notFound(jobId);
+        }
+        if (!active.get()) {
+            throw JobException.notActive(jobId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.applications.ingestion.drain-interval-ms:500}")
+    public void drain() {
+        if (writeAheadLog == null) {
+            return;
+        }
+        try {
+            for (Path segment : writeAheadLog.seal()) {
+                List<ApplicationSubmission> submissions = parse(segment);
+                for (int from = 0; from < submissions.size(); from += batchSize) {
+                    store(submissions.subList(from, Math.min(from + batchSize, submissions.size())));
+                }
+                writeAheadLog.delete(segment);
+            }
+        } catch (IOException e) {
+            log.error("Failed to drain application write-ahead log: {}", e.getMessage());
+        } catch (DataAccessException e) {
+            // the segment stays on disk; stored rows are recognised by id when it is replayed
+            log.warn("Database unavailable while draining application write-ahead log, retrying: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (writeAheadLog != null) {
+            drain();
+            writeAheadLog.close();
+        }
+    }
+
+    private List<ApplicationSubmission> parse(Path segment) throws IOException {
+        List<ApplicationSubmission> submissions = new ArrayList<>();
+        for (byte[] record : writeAheadLog.read(segment)) {
+            try {
+                submissions.add(objectMapper.readValue(record, ApplicationSubmission.class));
+            } catch (IOException e) {
+                log.error("Skipping unreadable record in {}: {}", segment.getFileName(), e.getMessage());
+            }
+        }
+        return submissions;
+    }
+
+    private void store(List<ApplicationSubmission> batch) {
+        Set<UUID> jobIds = batch.stream().map(ApplicationSubmission::jobId).collect(Collectors.toSet());
+        Map<UUID, Job> activeJobs = jobRepository.findAllById(jobIds).stream()
+                .filter(Job::isActive)
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+
+        Map<UUID, ApplicationSubmission> submissions = new HashMap<>();
+        List<Application> pending = new ArrayList<>(batch.size());
+        for (ApplicationSubmission submission : batch) {
+            Job job = activeJobs.get(submission.jobId());
+            if (job == null) {
+                reject(submission.trackingId(), submission.jobId(), "This job listing is no longer active");
+                continue;
+            }
+            Application application = toApplication(submission, job);
+            submissions.put(application.getId(), submission);
+            pending.add(application);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(pending));
+            pending.forEach(application -> created(application, submissions.get(application.getId())));
+        } catch (DataIntegrityViolationException e) {
+            // at least one row conflicts; store the batch row by row to find out which
+            for (Application application : pending) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(application)));
+                    created(application, submissions.get(application.getId()));
+                } catch (DataIntegrityViolationException conflict) {
+                    resolveConflict(application, conflict);
+                }
+            }
+        }
+    }
+
+    private void insert(List<Application> applications) {
+        applicationRepository.insertAll(applications);
+        applications.stream()
+                .collect(Collectors.groupingBy(application -> application.getJob().getId(), Collectors.counting()))
+                .forEach(jobApplicationCounterService::add);
+    }
+
+    private Application toApplication(ApplicationSubmission submission, Job job) {
+        CreateApplicationRequest request = CreateApplicationRequest.builder()
+                .firstName(submission.firstName())
+                .lastName(submission.lastName())
+                .email(submission.email())
+                .resumeUrl(submission.resumeUrl())
+                .linkedinUrl(submission.linkedinUrl())
+                .build();
+        Application application = applicationBuilder.buildApplication(request, job, submission.idempotencyKey());
+        application.setId(submission.trackingId());
+        application.setResumeUrl(submission.resumeUrl());
+        application.setCreatedAt(submission.submittedAt());
+        application.setUpdatedAt(submission.submittedAt());
+        return application;
+    }
+
+    private void created(Application application, ApplicationSubmission submission) {
+        outcomes.put(application.getId(), outcome(application.getId(), application.getJob().getId(), SubmissionStatus.CREATED, null));
+        applicationEventPublisher.publishEvent(ApplicationCreatedEvent.builder()
+                .applicationId(application.getId())
+                .resumeUrl(submission.resumeUrl())
+                .jobPost(application.getJob().toString())
+                .build());
+    }
+
+    private void resolveConflict(Application application, DataIntegrityViolationException conflict) {
+        UUID trackingId = application.getId();
+        UUID jobId = application.getJob().getId();
+        // a read-write transaction runs on the primary; a lagging replica would not have the row yet
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> applicationRepository.existsById(trackingId)))) {
+            // replayed after a crash or retried with the same idempotency key
+            outcomes.put(trackingId, outcome(trackingId, jobId, SubmissionStatus.CREATED, null));
+        } else if (ApplicationService.violates(conflict, Application.JOB_APPLICANT_CONSTRAINT)) {
+            reject(trackingId, jobId, "You have already applied to this job");
+        } else if (ApplicationService.violates(conflict, Application.IDEMPOTENCY_KEY_CONSTRAINT)) {
+            reject(trackingId, jobId, "This Idempotency-Key was already used for a different application");
+        } else {
+            log.error("Rejected application submission {}: {}", trackingId, conflict.getMessage());
+            reject(trackingId, jobId, "The application could not be stored");
+        }
+    }
+
+    private void reject(UUID trackingId, UUID jobId, String message) {
+        outcomes.put(trackingId, outcome(trackingId, jobId, SubmissionStatus.REJECTED, message));
+    }
+
+    private static ApplicationSubmissionResponse outcome(UUID trackingId, UUID jobId, SubmissionStatus status, String message) {
+        return ApplicationSubmissionResponse.builder()
+                .trackingId(trackingId)
+                .jobId(jobId)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
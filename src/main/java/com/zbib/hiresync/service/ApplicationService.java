@@ -3,37 +3,64 @@ package com.zbib.hiresync.service;
 import com.zbib.hiresync.dto.builder.ApplicationBuilder;
 import com.zbib.hiresync.dto.event.ApplicationCreatedEvent;
 import com.zbib.hiresync.dto.filter.ApplicationFilter;
+import com.zbib.hiresync.dto.request.BulkUpdateApplicationStatusRequest;
 import com.zbib.hiresync.dto.request.CreateApplicationRequest;
 import com.zbib.hiresync.dto.request.ToggleApplicationStatusRequest;
 import com.zbib.hiresync.dto.response.ApplicationResponse;
+import com.zbib.hiresync.dto.response.ApplicationStatusHistoryResponse;
+import com.zbib.hiresync.dto.response.BulkApplicationStatusResponse;
 import com.zbib.hiresync.dto.response.ApplicationFitResponse;
 import com.zbib.hiresync.dto.response.JobApplicationListResponse;
 import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.ApplicationStatusHistory;
 import com.zbib.hiresync.entity.Job;
 import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.enums.BulkUpdateOutcome;
 import com.zbib.hiresync.exception.ApplicationException;
 import com.zbib.hiresync.exception.AuthException;
 import com.zbib.hiresync.exception.JobException;
+import com.zbib.hiresync.exception.ValidationException;
 import com.zbib.hiresync.repository.ApplicationRepository;
+import com.zbib.hiresync.repository.ApplicationRepositoryCustom;
+import com.zbib.hiresync.repository.ApplicationStatusHistoryRepository;
 import com.zbib.hiresync.repository.JobRepository;
 import com.zbib.hiresync.specification.ApplicationSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class ApplicationService {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    private static final int MAX_BULK_UPDATE_SIZE = 1000;
+
     private final ApplicationRepository applicationRepository;
+    private final ApplicationStatusHistoryRepository applicationStatusHistoryRepository;
     private final JobRepository jobRepository;
     private final ApplicationBuilder applicationBuilder;
     private final UserService userService;
@@ -41,28 +68,34 @@ public class ApplicationService {
     private final PdfParsingService pdfParsingService;
     private final ApplicationMatchService applicationMatchService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final JobApplicationCounterService jobApplicationCounterService;
+    private final ApplicationStatsService applicationStatsService;
+    private final SkillExtractionService skillExtractionService;
+    private final ApplicationSkillIndexService applicationSkillIndexService;
+    private final TransactionTemplate transactionTemplate;
 
 
-    @Transactional
-    public ApplicationResponse createApplication(UUID jobId, CreateApplicationRequest request) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> JobException.notFound(jobId));
-
-        if (!job.isActive()) throw JobException.notActive(jobId);
-
-        if (applicationRepository.existsByJobAndApplicantEmail(job, request.getEmail()))
-            throw ApplicationException.alreadyApplied(jobId, request.getEmail());
-
-        job.incrementApplicationCount();
-        jobRepository.save(job);
-
-        Application application = applicationBuilder.buildApplication(request, job);
-        applicationRepository.save(application);
+    /**
+     * Submits an application. Duplicates are caught by the unique constraints rather than checked
+     * up front: a second application to the same job fails with {@code alreadyApplied}, and a
+     * retried request carrying the same {@code idempotencyKey} returns the original application.
+     */
+    public ApplicationResponse createApplication(UUID jobId, CreateApplicationRequest request, String idempotencyKey) {
+        if (idempotencyKey != null && idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw ValidationException.invalidInput(Map.of("Idempotency-Key",
+                    "must be at most " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters"));
+        }
+        Application application;
+        try {
+            application = transactionTemplate.execute(status -> insertApplication(jobId, request, idempotencyKey));
+        } catch (DataIntegrityViolationException e) {
+            return resolveConflict(jobId, request, idempotencyKey, e);
+        }
 
         ApplicationCreatedEvent event = ApplicationCreatedEvent.builder()
                 .applicationId(application.getId())
                 .resumeUrl(request.getResumeUrl())
-                .jobPost(job.toString())
+                .jobPost(application.getJob().toString())
                 .build();
 
         applicationEventPublisher.publishEvent(event);
@@ -70,23 +103,80 @@ public class ApplicationService {
         return applicationBuilder.buildApplicationResponse(application);
     }
 
+    private Application insertApplication(UUID jobId, CreateApplicationRequest request, String idempotencyKey) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> JobException.notFound(jobId));
+
+        if (!job.isActive()) throw JobException.notActive(jobId);
+
+        // flush now so a duplicate fails before the counter slot is locked
+        Application application = applicationRepository.saveAndFlush(
+                applicationBuilder.buildApplication(request, job, idempotencyKey));
+        jobApplicationCounterService.increment(jobId);
+        return application;
+    }
+
+    /**
+     * A retry violates both unique constraints and the database reports whichever it checks first,
+     * so a keyed request always looks for its original before the error is mapped. The lookup runs
+     * in a read-write transaction to read the primary: a lagging replica may not have the row yet.
+     */
+    private ApplicationResponse resolveConflict(UUID jobId, CreateApplicationRequest request, String idempotencyKey,
+                                                DataIntegrityViolationException e) {
+        if (idempotencyKey != null) {
+            ApplicationResponse original = transactionTemplate.execute(status -> applicationRepository
+                    .findByIdempotencyKey(idempotencyKey)
+                    .map(application -> {
+                        if (!application.getJob().getId().equals(jobId)
+                                || !application.getApplicantEmail().equals(request.getEmail())) {
+                            throw ApplicationException.idempotencyKeyReused(idempotencyKey);
+                        }
+                        return applicationBuilder.buildApplicationResponse(application);
+                    })
+                    .orElse(null));
+            if (original != null) {
+                return original;
+            }
+        }
+        if (violates(e, Application.JOB_APPLICANT_CONSTRAINT)) {
+            throw ApplicationException.alreadyApplied(jobId, request.getEmail());
+        }
+        throw e;
+    }
+
+    /**
+     * Whether {@code e} was raised by the named constraint. Errors from plain JDBC carry no parsed
+     * constraint name, so for those the driver message is searched instead.
+     */
+    static boolean violates(DataIntegrityViolationException e, String constraint) {
+        String source = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : e.getMostSpecificCause().getMessage();
+        return source != null && source.toLowerCase(Locale.ROOT).contains(constraint);
+    }
+
     public void process(ApplicationCreatedEvent event) {
         String resumeText = pdfParsingService.parse(event.getResumeUrl());
         String jobPostText = event.getJobPost().toString();
 
         ApplicationFitResponse fit = applicationMatchService.analyze(jobPostText, resumeText);
+        Set<String> skills = skillExtractionService.extract(resumeText);
         Application application = applicationRepository.findById((event.getApplicationId()))
                 .orElseThrow(() -> ApplicationException.notFound(event.getApplicationId()));
         application.setSummary(fit.getSummary());
         application.setMatchRate(fit.getMatchRate());
+        application.setSkills(skills);
         applicationRepository.save(application);
+        applicationSkillIndexService.update(application.getJob().getId(), application.getId(), skills);
     }
 
+    @Transactional(readOnly = true)
     public ApplicationResponse getApplicationById(UUID applicationId, String username) {
         Application application = findApplicationByIdOrThrow(applicationId);
         return applicationBuilder.buildApplicationResponse(application);
     }
 
+    @Transactional(readOnly = true)
     public Page<JobApplicationListResponse> getApplicationsByJobId(UUID jobId, ApplicationFilter filter, Pageable pageable, String username) {
         User user = userService.findByUsernameOrThrow(username);
         Job job = jobRepository.findById(jobId)
@@ -112,13 +202,124 @@ public class ApplicationService {
         User user = userService.findByUsernameOrThrow(username);
         Application application = findApplicationByIdOrThrow(applicationId);
 
-        application.updateStatus(request.getStatus(), request.getNotes());
+        ApplicationStatus previousStatus = application.getStatus();
+        if (isUnchanged(previousStatus, request.getStatus(), request.getNotes())) {
+            return applicationBuilder.buildApplicationResponse(application);
+        }
+        application.updateStatus(request.getStatus());
 
         Application savedApplication = applicationRepository.save(application);
+        applicationStatusHistoryRepository.save(applicationBuilder.buildStatusHistory(
+                application.getId(), previousStatus, request.getStatus(), request.getNotes(), user.getId()));
+        applicationStatsService.recordStatusChange(application.getJob().getUser().getId(),
+                application.getJob().getId(), previousStatus, request.getStatus());
 
         return applicationBuilder.buildApplicationResponse(savedApplication);
     }
 
+    /**
+     * Changes the status of many applications in one transaction: ownership is checked for all of
+     * them with one query and the changes are written with one batched UPDATE. Applications that
+     * cannot be changed are reported per item instead of failing the whole request.
+     */
+    @Transactional
+    public BulkApplicationStatusResponse bulkUpdateStatus(BulkUpdateApplicationStatusRequest request, String username) {
+        User user = userService.findByUsernameOrThrow(username);
+        Collection<UUID> applicationIds = resolveBulkSelection(request, user, username);
+        Map<UUID, ApplicationRepository.StatusView> views = applicationRepository.findStatusViews(applicationIds).stream()
+                .collect(Collectors.toMap(ApplicationRepository.StatusView::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BulkApplicationStatusResponse.Item> results = new ArrayList<>(applicationIds.size());
+        List<BulkApplicationStatusResponse.Item> pending = new ArrayList<>();
+        List<ApplicationRepositoryCustom.StatusChange> changes = new ArrayList<>();
+        for (UUID applicationId : applicationIds) {
+            ApplicationRepository.StatusView view = views.get(applicationId);
+            BulkApplicationStatusResponse.Item item = BulkApplicationStatusResponse.Item.builder()
+                    .applicationId(applicationId)
+                    .build();
+            results.add(item);
+            if (view == null) {
+                item.setOutcome(BulkUpdateOutcome.NOT_FOUND);
+            } else if (!user.getId().equals(view.getOwnerId())) {
+                item.setOutcome(BulkUpdateOutcome.FORBIDDEN);
+            } else {
+                item.setPreviousStatus(view.getStatus());
+                if (isUnchanged(view.getStatus(), request.getStatus(), request.getNotes())) {
+                    item.setOutcome(BulkUpdateOutcome.UNCHANGED);
+                    continue;
+                }
+                changes.add(new ApplicationRepositoryCustom.StatusChange(applicationId, view.getStatus(), request.getStatus(), now));
+                pending.add(item);
+            }
+        }
+
+        int updated = 0;
+        if (!changes.isEmpty()) {
+            boolean[] applied = applicationRepository.updateStatuses(changes);
+            List<ApplicationStatusHistory> history = new ArrayList<>();
+            List<ApplicationStatsService.StatusTransition> transitions = new ArrayList<>();
+            for (int i = 0; i < applied.length; i++) {
+                pending.get(i).setOutcome(applied[i] ? BulkUpdateOutcome.UPDATED : BulkUpdateOutcome.CONFLICT);
+                if (applied[i]) {
+                    ApplicationRepositoryCustom.StatusChange change = changes.get(i);
+                    history.add(applicationBuilder.buildStatusHistory(change.applicationId(), change.expectedStatus(),
+                            change.status(), request.getNotes(), user.getId()));
+                    transitions.add(new ApplicationStatsService.StatusTransition(views.get(change.applicationId()).getJobId(),
+                            change.expectedStatus(), change.status()));
+                }
+            }
+            applicationStatusHistoryRepository.saveAll(history);
+            applicationStatsService.recordStatusChanges(user.getId(), transitions);
+            updated = history.size();
+        }
+        return BulkApplicationStatusResponse.builder()
+                .updated(updated)
+                .results(results)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ApplicationStatusHistoryResponse> getStatusHistory(UUID applicationId, Pageable pageable, String username) {
+        User user = userService.findByUsernameOrThrow(username);
+        Application application = findApplicationByIdOrThrow(applicationId);
+        if (!application.getJob().isOwnedBy(user)) {
+            throw AuthException.accessDenied("application history", applicationId, username);
+        }
+        return applicationStatusHistoryRepository.findByApplicationIdOrderByCreatedAtDesc(applicationId, pageable)
+                .map(applicationBuilder::buildStatusHistoryResponse);
+    }
+
+    /**
+     * A change to the same status without notes records nothing, in the single and the bulk path alike.
+     */
+    private static boolean isUnchanged(ApplicationStatus fromStatus, ApplicationStatus toStatus, String notes) {
+        return fromStatus == toStatus && !StringUtils.hasText(notes);
+    }
+
+    private Collection<UUID> resolveBulkSelection(BulkUpdateApplicationStatusRequest request, User user, String username) {
+        if (request.getApplicationIds() != null && !request.getApplicationIds().isEmpty()) {
+            return new LinkedHashSet<>(request.getApplicationIds());
+        }
+        ApplicationFilter filter = request.getFilter();
+        if (filter == null || filter.getJobId() == null) {
+            throw ValidationException.invalidInput(Map.of("applicationIds", "either applicationIds or filter.jobId is required"));
+        }
+        Job job = jobRepository.findById(filter.getJobId())
+                .orElseThrow(() -> JobException.notFound(filter.getJobId()));
+        if (!job.isOwnedBy(user)) {
+            throw AuthException.accessDenied("job's applications", job.getId(), username);
+        }
+
+        List<Application> matches = applicationRepository.findBy(applicationSpecification.buildSpecification(filter),
+                query -> query.limit(MAX_BULK_UPDATE_SIZE + 1).all());
+        if (matches.size() > MAX_BULK_UPDATE_SIZE) {
+            throw ValidationException.invalidInput(Map.of("filter",
+                    "matches more than " + MAX_BULK_UPDATE_SIZE + " applications; narrow it down"));
+        }
+        return matches.stream().map(Application::getId).toList();
+    }
+
     private Application findApplicationByIdOrThrow(UUID applicationId) {
         return applicationRepository.findById(applicationId)
                 .orElseThrow(() -> ApplicationException.notFound(applicationId));
@@ -0,0 +1,90 @@
+package com.zbib.hiresync.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.enums.SkillMatchMode;
+import com.zbib.hiresync.repository.ApplicationRepository;
+import com.zbib.hiresync.repository.ApplicationRepository.SkillRow;
+import com.zbib.hiresync.search.SkillBitmapIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Answers applicant skills filters from per-job {@link SkillBitmapIndex}es. A job's index is
+ * built from {@code application_skills} the first time it is filtered and then kept current as
+ * its applications are scored on this node. Applications scored on other nodes are picked up by
+ * reloading the index in the background once it is older than {@code refresh-after}; jobs not
+ * filtered for an hour are dropped from memory.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationSkillIndexService {
+
+    private final ApplicationRepository applicationRepository;
+
+    @Value("${hiresync.skills.index.refresh-after:1m}")
+    private Duration refreshAfter;
+
+    private LoadingCache<UUID, SkillBitmapIndex> indexes;
+
+    @PostConstruct
+    void init() {
+        // a refresh that overlaps a local update is discarded by Caffeine, so updates are not lost
+        indexes = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterAccess(Duration.ofHours(1))
+                .refreshAfterWrite(refreshAfter)
+                .build(this::load);
+    }
+
+    /**
+     * Returns the job's applications having all or any of the given canonical skills.
+     */
+    public List<UUID> match(UUID jobId, Collection<String> skills, SkillMatchMode mode) {
+        SkillBitmapIndex index = indexes.get(jobId);
+        return mode == SkillMatchMode.ANY ? index.matchAny(skills) : index.matchAll(skills);
+    }
+
+    /**
+     * Records the skills extracted for an application. Runs after they are committed; a job whose
+     * index is not in memory picks them up from the database when it is next loaded or refreshed.
+     */
+    public void update(UUID jobId, UUID applicationId, Set<String> skills) {
+        // computeIfPresent waits for a load in progress, so the update cannot be lost behind it
+        indexes.asMap().computeIfPresent(jobId, (id, index) -> {
+            index.put(applicationId, skills);
+            return index;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobEventType.DELETED) {
+            indexes.invalidate(event.getJobId());
+        }
+    }
+
+    private SkillBitmapIndex load(UUID jobId) {
+        Map<UUID, List<String>> skillsByApplication = new LinkedHashMap<>();
+        for (SkillRow row : applicationRepository.findSkillRows(jobId)) {
+            skillsByApplication.computeIfAbsent(row.getApplicationId(), id -> new ArrayList<>()).add(row.getSkill());
+        }
+        SkillBitmapIndex index = new SkillBitmapIndex();
+        skillsByApplication.forEach(index::put);
+        return index;
+    }
+}
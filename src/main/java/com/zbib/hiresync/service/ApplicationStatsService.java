@@ -0,0 +1,126 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.dto.response.ApplicationStatsResponse;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.repository.ApplicationStatusCountRepository;
+import com.zbib.hiresync.repository.ApplicationStatusCountRepositoryCustom.CountDelta;
+import com.zbib.hiresync.repository.JobApplicationCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Application statistics for a job owner's dashboard, read from per-job counts instead of grouping
+ * all applications. Status changes adjust the counts in their own transaction; a scheduled
+ * reconciliation repairs any drift, e.g. from rows changed outside the application.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ApplicationStatsService {
+
+    private final ApplicationStatusCountRepository applicationStatusCountRepository;
+    private final JobApplicationCounterRepository jobApplicationCounterRepository;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+
+    public void recordStatusChange(UUID ownerId, UUID jobId, ApplicationStatus fromStatus, ApplicationStatus toStatus) {
+        recordStatusChanges(ownerId, List.of(new StatusTransition(jobId, fromStatus, toStatus)));
+    }
+
+    /**
+     * Adjusts the counts for status changes of the owner's applications. Must run in the
+     * transaction that changes the statuses.
+     */
+    public void recordStatusChanges(UUID ownerId, List<StatusTransition> transitions) {
+        Map<UUID, Map<ApplicationStatus, Long>> deltas = new LinkedHashMap<>();
+        for (StatusTransition transition : transitions) {
+            if (transition.fromStatus() == transition.toStatus()) {
+                continue;
+            }
+            Map<ApplicationStatus, Long> jobDeltas = deltas.computeIfAbsent(transition.jobId(),
+                    id -> new EnumMap<>(ApplicationStatus.class));
+            // SUBMITTED is derived from the job's total, see ApplicationStatusCount
+            if (transition.fromStatus() != ApplicationStatus.SUBMITTED) {
+                jobDeltas.merge(transition.fromStatus(), -1L, Long::sum);
+            }
+            if (transition.toStatus() != ApplicationStatus.SUBMITTED) {
+                jobDeltas.merge(transition.toStatus(), 1L, Long::sum);
+            }
+        }
+
+        List<CountDelta> changes = new ArrayList<>();
+        deltas.forEach((jobId, jobDeltas) -> jobDeltas.forEach((status, delta) -> {
+            if (delta != 0) {
+                changes.add(new CountDelta(ownerId, jobId, status, delta));
+            }
+        }));
+        applicationStatusCountRepository.adjust(changes);
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationStatsResponse getStats(String username) {
+        User user = userService.findByUsernameOrThrow(username);
+
+        Map<UUID, Long> byJob = new LinkedHashMap<>();
+        long total = 0;
+        for (JobApplicationCounterRepository.JobTotal job : jobApplicationCounterRepository.countByOwner(user.getId())) {
+            byJob.put(job.getJobId(), job.getApplications());
+            total += job.getApplications();
+        }
+
+        Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        long moved = 0;
+        for (ApplicationStatusCountRepository.StatusTotal status : applicationStatusCountRepository.sumByStatus(user.getId())) {
+            byStatus.put(status.getStatus(), status.getApplications());
+            moved += status.getApplications();
+        }
+        byStatus.put(ApplicationStatus.SUBMITTED, Math.max(0, total - moved));
+
+        return ApplicationStatsResponse.builder()
+                .totalApplications(total)
+                .applicationsByStatus(byStatus)
+                .applicationsByJob(byJob)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.applications.stats.reconcile-interval-ms:3600000}",
+            initialDelayString = "${hiresync.applications.stats.reconcile-initial-delay-ms:300000}")
+    public void reconcile() {
+        Set<UUID> drifted = applicationStatusCountRepository.findDriftedJobs();
+        for (UUID jobId : drifted) {
+            transactionTemplate.executeWithoutResult(status -> applicationStatusCountRepository.recount(jobId));
+        }
+        if (!drifted.isEmpty()) {
+            log.warn("Repaired application status counts of {} jobs", drifted.size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobEventType.DELETED) {
+            applicationStatusCountRepository.deleteByJobId(event.getJobId());
+        }
+    }
+
+    public record StatusTransition(UUID jobId, ApplicationStatus fromStatus, ApplicationStatus toStatus) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.geo.Gazetteer;
+import com.zbib.hiresync.geo.GeocodedLocation;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Resolves free-text job locations against the bundled gazetteer at write time.
+ */
+@Log4j2
+@Service
+public class GeocodingService {
+
+    @Value("${hiresync.geocoder.countries:classpath:geo/countries.tsv}")
+    private Resource countries;
+
+    @Value("${hiresync.geocoder.places:classpath:geo/places.tsv}")
+    private Resource places;
+
+    private Gazetteer gazetteer;
+
+    @PostConstruct
+    void load() {
+        try (Reader countryReader = new InputStreamReader(countries.getInputStream(), StandardCharsets.UTF_8);
+             Reader placeReader = new InputStreamReader(places.getInputStream(), StandardCharsets.UTF_8)) {
+            gazetteer = Gazetteer.load(countryReader, placeReader);
+            log.info("Loaded gazetteer with {} places", gazetteer.placeCount());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load gazetteer", e);
+        }
+    }
+
+    public Optional<GeocodedLocation> geocode(String location) {
+        return gazetteer.resolve(location);
+    }
+
+    public Optional<String> canonicalCity(String city) {
+        return gazetteer.canonicalCity(city);
+    }
+
+    public Optional<String> canonicalCountry(String country) {
+        return gazetteer.canonicalCountry(country);
+    }
+}
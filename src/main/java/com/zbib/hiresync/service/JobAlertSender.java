@@ -0,0 +1,14 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.entity.JobAlertNotification;
+import com.zbib.hiresync.entity.User;
+
+import java.util.List;
+
+/**
+ * Delivery channel for job alert digests. Throwing leaves the notifications queued for the next run.
+ */
+public interface JobAlertSender {
+
+    void send(User user, List<JobAlertNotification> notifications);
+}
@@ -0,0 +1,247 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.builder.JobAlertBuilder;
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.dto.request.CreateJobAlertRequest;
+import com.zbib.hiresync.dto.response.JobAlertResponse;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.JobAlert;
+import com.zbib.hiresync.entity.JobAlertNotification;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.exception.AuthException;
+import com.zbib.hiresync.exception.JobAlertException;
+import com.zbib.hiresync.repository.JobAlertNotificationRepository;
+import com.zbib.hiresync.repository.JobAlertRepository;
+import com.zbib.hiresync.search.JobAlertPercolator;
+import com.zbib.hiresync.validation.JobValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Saved job searches. New postings are matched against all active alerts through an in-memory
+ * {@link JobAlertPercolator}; matches are written to a notification outbox in the job's own
+ * transaction and delivered per user in scheduled batches.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobAlertService {
+
+    private static final int CATCH_UP_BATCH_SIZE = 500;
+    private static final long CATCH_UP_OVERLAP_SECONDS = 5;
+    // sorts before every real id, so the first page starts at the overlap position itself
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final JobAlertRepository jobAlertRepository;
+    private final JobAlertNotificationRepository jobAlertNotificationRepository;
+    private final UserService userService;
+    private final JobAlertBuilder jobAlertBuilder;
+    private final JobValidator jobValidator;
+    private final JobAlertSender jobAlertSender;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${hiresync.alerts.max-per-user:20}")
+    private int maxAlertsPerUser;
+
+    @Value("${hiresync.alerts.dispatch-batch-size:500}")
+    private int dispatchBatchSize;
+
+    @Value("${hiresync.alerts.retry-backoff:1m}")
+    private Duration retryBackoff;
+
+    @Value("${hiresync.alerts.max-retry-backoff:6h}")
+    private Duration maxRetryBackoff;
+
+    private final JobAlertPercolator percolator = new JobAlertPercolator();
+    private volatile LocalDateTime watermark = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private volatile boolean ready;
+
+    @Transactional
+    public JobAlertResponse createAlert(CreateJobAlertRequest request, String username) {
+        User user = userService.findByUsernameOrThrow(username);
+        if (jobAlertRepository.countByUserAndActiveTrue(user) >= maxAlertsPerUser) {
+            throw JobAlertException.limitReached(username, maxAlertsPerUser);
+        }
+        jobValidator.validateAlertFilter(request.getFilter());
+
+        JobAlert alert = jobAlertRepository.save(jobAlertBuilder.buildJobAlert(request, user));
+        JobAlertPercolator.Query query = jobAlertBuilder.buildPercolatorQuery(alert, user.getId());
+        afterCommit(() -> percolator.add(query));
+
+        return jobAlertBuilder.buildJobAlertResponse(alert);
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobAlertResponse> getAlerts(String username) {
+        User user = userService.findByUsernameOrThrow(username);
+        return jobAlertRepository.findByUserAndActiveTrueOrderByCreatedAtDesc(user).stream()
+                .map(jobAlertBuilder::buildJobAlertResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteAlert(UUID alertId, String username) {
+        User user = userService.findByUsernameOrThrow(username);
+        JobAlert alert = jobAlertRepository.findById(alertId)
+                .filter(JobAlert::isActive)
+                .orElseThrow(() -> JobAlertException.notFound(alertId));
+        if (!alert.getUser().getId().equals(user.getId())) {
+            throw AuthException.accessDenied("job alert", alertId, username);
+        }
+
+        alert.setActive(false);
+        jobAlertRepository.save(alert);
+        afterCommit(() -> percolator.remove(alertId));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        catchUp();
+        ready = true;
+        log.info("Job alert percolator ready with {} alerts", percolator.size());
+    }
+
+    /**
+     * Matches a newly created job against saved alerts and queues the notifications before the
+     * job's transaction commits, so a job is never created without its notifications.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.getJob();
+        if (event.getType() != JobEventType.CREATED || job == null || !job.isActive()) {
+            return;
+        }
+        List<JobAlertPercolator.Query> matches = percolator.match(jobAlertBuilder.buildPercolatorDocument(job));
+        if (matches.isEmpty()) {
+            return;
+        }
+        List<JobAlertNotification> notifications = matches.stream()
+                .map(match -> jobAlertBuilder.buildNotification(jobAlertRepository.getReferenceById(match.alertId()), job))
+                .toList();
+        jobAlertNotificationRepository.saveAll(notifications);
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.alerts.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (ready) {
+            catchUp();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.alerts.dispatch-interval-ms:60000}")
+    public void dispatchNotifications() {
+        Integer delivered;
+        do {
+            delivered = transactionTemplate.execute(status -> dispatchBatch());
+        } while (delivered != null && delivered == dispatchBatchSize);
+    }
+
+    /**
+     * Delivers one batch of due notifications as one digest per user. A failed digest is scheduled
+     * for a later attempt, so it leaves the head of the queue instead of blocking it.
+     *
+     * @return number of notifications marked as sent
+     */
+    private int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<JobAlertNotification> pending = jobAlertNotificationRepository.findPendingForDelivery(
+                now, PageRequest.of(0, dispatchBatchSize));
+
+        Map<UUID, List<JobAlertNotification>> byUser = new LinkedHashMap<>();
+        Map<UUID, User> users = new LinkedHashMap<>();
+        int delivered = 0;
+        for (JobAlertNotification notification : pending) {
+            JobAlert alert = notification.getAlert();
+            if (!alert.isActive()) {
+                // alert was deleted after the job matched; drop silently
+                notification.setSentAt(now);
+                delivered++;
+                continue;
+            }
+            User user = alert.getUser();
+            users.putIfAbsent(user.getId(), user);
+            byUser.computeIfAbsent(user.getId(), id -> new ArrayList<>()).add(notification);
+        }
+
+        for (Map.Entry<UUID, List<JobAlertNotification>> entry : byUser.entrySet()) {
+            try {
+                jobAlertSender.send(users.get(entry.getKey()), entry.getValue());
+                entry.getValue().forEach(notification -> notification.setSentAt(now));
+                delivered += entry.getValue().size();
+            } catch (RuntimeException e) {
+                log.warn("Failed to deliver {} job alert notifications to user {}: {}",
+                        entry.getValue().size(), entry.getKey(), e.getMessage());
+                entry.getValue().forEach(notification -> scheduleRetry(notification, now));
+            }
+        }
+        jobAlertNotificationRepository.saveAll(pending);
+        return delivered;
+    }
+
+    private void scheduleRetry(JobAlertNotification notification, LocalDateTime now) {
+        int attempts = notification.getAttempts() + 1;
+        // doubles per attempt; the shift is capped so it cannot overflow before the maximum applies
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        notification.setAttempts(attempts);
+        notification.setNextAttemptAt(now.plus(backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff));
+    }
+
+    private void catchUp() {
+        LocalDateTime position = watermark.minusSeconds(CATCH_UP_OVERLAP_SECONDS);
+        UUID afterId = FIRST_ID;
+        LocalDateTime latest = watermark;
+        List<JobAlert> batch;
+        do {
+            batch = jobAlertRepository.findChangedAfter(position, afterId, PageRequest.of(0, CATCH_UP_BATCH_SIZE));
+            for (JobAlert alert : batch) {
+                if (alert.isActive()) {
+                    percolator.add(jobAlertBuilder.buildPercolatorQuery(alert, alert.getUser().getId()));
+                } else {
+                    percolator.remove(alert.getId());
+                }
+                position = alert.getUpdatedAt();
+                afterId = alert.getId();
+                if (alert.getUpdatedAt().isAfter(latest)) {
+                    latest = alert.getUpdatedAt();
+                }
+            }
+        } while (batch.size() == CATCH_UP_BATCH_SIZE);
+        watermark = latest;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.repository.JobApplicationCounterRepository;
+import com.zbib.hiresync.repository.JobApplicationCounterRepository.JobTotal;
+import com.zbib.hiresync.repository.JobApplicationCounterRepositoryCustom.SlotDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Counts applications per job without serialising applicants on the job row. Each application
+ * increments one of {@code slots} counter rows at random inside the application's transaction,
+ * and a scheduled compaction folds the slots into {@code jobs.application_count} without touching
+ * {@code updated_at}. Responses always carry the compacted count plus the open slots, and the job
+ * and feed ETags cover those counts themselves rather than relying on {@code updated_at}.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobApplicationCounterService {
+
+    private final JobApplicationCounterRepository jobApplicationCounterRepository;
+
+    @Value("${hiresync.applications.counter.slots:16}")
+    private int slots;
+
+    @Value("${hiresync.applications.counter.compaction-batch-size:1000}")
+    private int compactionBatchSize;
+
+    public void increment(UUID jobId) {
+        add(jobId, 1);
+    }
+
+    public void add(UUID jobId, long applications) {
+        jobApplicationCounterRepository.increment(jobId, ThreadLocalRandom.current().nextInt(slots), slots, applications);
+    }
+
+    /**
+     * Returns the exact application count: the compacted count on the job plus its open slots.
+     */
+    public long getCount(Job job) {
+        return getCounts(List.of(job)).getOrDefault(job.getId(), (long) job.getApplicationCount());
+    }
+
+    /**
+     * Returns the exact application counts of a page of jobs with one grouped query.
+     */
+    public Map<UUID, Long> getCounts(Collection<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return Map.of();
+        }
+        return jobApplicationCounterRepository.countByJobIds(jobs.stream().map(Job::getId).toList()).stream()
+                .collect(Collectors.toMap(JobTotal::getJobId, JobTotal::getApplications));
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.applications.counter.compaction-interval-ms:30000}")
+    public void compact() {
+        int total = 0;
+        List<SlotDelta> deltas;
+        do {
+            deltas = jobApplicationCounterRepository.findPendingDeltas(compactionBatchSize);
+            jobApplicationCounterRepository.compact(deltas);
+            total += deltas.size();
+        } while (deltas.size() == compactionBatchSize);
+        if (total > 0) {
+            log.debug("Compacted {} application counter slots", total);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobEventType.DELETED) {
+            jobApplicationCounterRepository.deleteByJobId(event.getJobId());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.entity.JobTombstone;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.JobRepositoryCustom.JobChange;
+import com.zbib.hiresync.repository.JobTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Feeds job changes made on other nodes to the in-memory job indexes. One poll of
+ * {@code updated_at} serves every subscriber and reads only the indexed columns; deletes are
+ * recorded as {@link JobTombstone}s in the deleting transaction and delivered the same way.
+ * Local changes still reach the indexes directly through {@link JobChangedEvent}s.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobChangeFeedService {
+
+    public static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final int BATCH_SIZE = 500;
+    /** Re-reads this much before the watermark, for transactions that committed after a later poll. */
+    private static final long OVERLAP_SECONDS = 5;
+
+    private final JobRepository jobRepository;
+    private final JobTombstoneRepository jobTombstoneRepository;
+
+    @Value("${hiresync.change-feed.tombstone-retention:7d}")
+    private Duration tombstoneRetention;
+
+    private final List<JobChangeListener> subscribers = new CopyOnWriteArrayList<>();
+    private volatile LocalDateTime watermark;
+    private volatile LocalDateTime tombstoneWatermark;
+
+    /**
+     * Delivers every change after {@code since} to the listener, then adds it to the regular polls.
+     * Pass {@link #BEGINNING} to load all jobs.
+     */
+    public synchronized void subscribe(JobChangeListener listener, LocalDateTime since) {
+        List<JobChangeListener> target = List.of(listener);
+        LocalDateTime latest = deliverChanges(since, target);
+        LocalDateTime latestTombstone = deliverTombstones(since, target);
+        subscribers.add(listener);
+        watermark = watermark == null || latest.isAfter(watermark) ? latest : watermark;
+        tombstoneWatermark = tombstoneWatermark == null || latestTombstone.isAfter(tombstoneWatermark)
+                ? latestTombstone : tombstoneWatermark;
+    }
+
+    /**
+     * Returns whether deletes since {@code since} can still be replayed; older positions must be rebuilt from scratch.
+     */
+    public boolean retainsDeletesSince(LocalDateTime since) {
+        return since.isAfter(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    /**
+     * Position up to which every change has been delivered to all subscribers.
+     */
+    public LocalDateTime watermark() {
+        LocalDateTime current = watermark;
+        return current != null ? current : BEGINNING;
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.change-feed.poll-interval-ms:30000}")
+    public synchronized void poll() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        watermark = deliverChanges(watermark, subscribers);
+        tombstoneWatermark = deliverTombstones(tombstoneWatermark, subscribers);
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.change-feed.prune-interval-ms:3600000}")
+    public void pruneTombstones() {
+        int pruned = jobTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (pruned > 0) {
+            log.debug("Pruned {} job tombstones", pruned);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobEventType.DELETED) {
+            jobTombstoneRepository.save(JobTombstone.builder()
+                    .jobId(event.getJobId())
+                    .deletedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    private LocalDateTime deliverChanges(LocalDateTime since, Collection<JobChangeListener> listeners) {
+        LocalDateTime latest = since;
+        LocalDateTime position = since.minusSeconds(OVERLAP_SECONDS);
+        UUID afterId = null;
+        List<JobChange> batch;
+        do {
+            batch = jobRepository.findChangesAfter(position, afterId, BATCH_SIZE);
+            for (JobChange change : batch) {
+                deliver(listeners, change.id(), change);
+                position = change.updatedAt();
+                afterId = change.id();
+                if (change.updatedAt().isAfter(latest)) {
+                    latest = change.updatedAt();
+                }
+            }
+        } while (batch.size() == BATCH_SIZE);
+        return latest;
+    }
+
+    private LocalDateTime deliverTombstones(LocalDateTime since, Collection<JobChangeListener> listeners) {
+        LocalDateTime latest = since;
+        for (JobTombstone tombstone : jobTombstoneRepository.findByDeletedAtAfterOrderByDeletedAt(since.minusSeconds(OVERLAP_SECONDS))) {
+            deliver(listeners, tombstone.getJobId(), null);
+            if (tombstone.getDeletedAt().isAfter(latest)) {
+                latest = tombstone.getDeletedAt();
+            }
+        }
+        return latest;
+    }
+
+    private void deliver(Collection<JobChangeListener> listeners, UUID jobId, JobChange change) {
+        for (JobChangeListener listener : listeners) {
+            try {
+                listener.onJobChange(jobId, change);
+            } catch (RuntimeException e) {
+                log.warn("Job change listener failed for job {}: {}", jobId, e.getMessage());
+            }
+        }
+    }
+}
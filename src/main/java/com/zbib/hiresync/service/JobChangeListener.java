@@ -0,0 +1,18 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.repository.JobRepositoryCustom.JobChange;
+
+import java.util.UUID;
+
+/**
+ * Receives job changes from {@link JobChangeFeedService}. Changes may be delivered more than once
+ * and after the same change arrived as a local event, so implementations must be idempotent.
+ */
+@FunctionalInterface
+public interface JobChangeListener {
+
+    /**
+     * @param change the job's current indexed fields, or null when it was deleted
+     */
+    void onJobChange(UUID jobId, JobChange change);
+}
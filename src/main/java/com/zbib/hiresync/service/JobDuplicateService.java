@@ -0,0 +1,104 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.enums.DuplicatePolicy;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.exception.JobException;
+import com.zbib.hiresync.repository.JobRepositoryCustom.JobChange;
+import com.zbib.hiresync.search.SimHash;
+import com.zbib.hiresync.search.SimHashIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Detects reposts of a recruiter's own active jobs. Each job stores a {@link SimHash} fingerprint
+ * of its text; an in-memory {@link SimHashIndex} of active jobs per owner answers whether a new
+ * posting is within a few bits of an existing one, and the configured {@link DuplicatePolicy}
+ * decides whether that is allowed, reported or rejected. This is the authoritative duplicate
+ * check; the MinHash signatures of {@link JobSimilarityService} only drive similar-job suggestions.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobDuplicateService {
+
+    private final JobChangeFeedService jobChangeFeedService;
+
+    @Value("${hiresync.duplicates.policy:WARN}")
+    private DuplicatePolicy policy;
+
+    @Value("${hiresync.duplicates.max-distance:7}")
+    private int maxDistance;
+
+    private final SimHashIndex index = new SimHashIndex();
+    private volatile boolean ready;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (policy == DuplicatePolicy.OFF) {
+            return;
+        }
+        jobChangeFeedService.subscribe(this::apply, JobChangeFeedService.BEGINNING);
+        ready = true;
+        log.info("Duplicate job index ready with {} fingerprints", index.size());
+    }
+
+    public long fingerprint(Job job) {
+        return SimHash.fingerprint(job.getTitle(), job.getCompanyName(), job.getDescription(), job.getRequirements());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Applies the duplicate policy to a new posting.
+     *
+     * @return the owner's active jobs the posting nearly duplicates; empty unless the policy is WARN,
+     *         and empty while the index is still loading, since a partial index would miss duplicates
+     * @throws JobException when the policy is REJECT and a duplicate exists
+     */
+    public List<UUID> checkNewJob(UUID ownerId, long fingerprint) {
+        if (policy == DuplicatePolicy.OFF || !ready) {
+            return List.of();
+        }
+        List<UUID> duplicates = index.find(ownerId, fingerprint, maxDistance);
+        if (!duplicates.isEmpty() && policy == DuplicatePolicy.REJECT) {
+            throw JobException.duplicate(duplicates.get(0));
+        }
+        return duplicates;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (policy == DuplicatePolicy.OFF) {
+            return;
+        }
+        apply(event.getJobId(), event.getType() == JobEventType.DELETED ? null : JobChange.of(event.getJob()));
+    }
+
+    /**
+     * Indexes the job's fingerprint while it is active; {@code job} is null when it was deleted.
+     */
+    private void apply(UUID jobId, JobChange job) {
+        if (job == null || !job.active() || job.ownerId() == null) {
+            index.remove(jobId);
+            return;
+        }
+        long fingerprint = job.simhash() != null
+                ? job.simhash()
+                : SimHash.fingerprint(job.title(), job.companyName(), job.description(), job.requirements());
+        index.put(job.ownerId(), jobId, fingerprint);
+    }
+}
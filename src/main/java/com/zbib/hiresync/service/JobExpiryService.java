@@ -0,0 +1,79 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deactivates jobs once their {@code expiresAt} passes. Expired jobs are claimed in bounded
+ * batches, each deactivated with a single UPDATE in its own transaction, and announced as
+ * {@link JobChangedEvent}s so caches and in-memory indexes drop them.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobExpiryService {
+
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${hiresync.expiry.default-ttl:60d}")
+    private Duration defaultTtl;
+
+    @Value("${hiresync.expiry.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Expiry applied to new postings that do not set one.
+     */
+    public LocalDateTime defaultExpiresAt() {
+        return LocalDateTime.now().plus(defaultTtl);
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.expiry.sweep-interval-ms:60000}")
+    public void deactivateExpiredJobs() {
+        int total = 0;
+        Integer claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> deactivateBatch(LocalDateTime.now()));
+            total += claimed == null ? 0 : claimed;
+        } while (claimed != null && claimed == batchSize);
+        if (total > 0) {
+            log.info("Deactivated {} expired jobs", total);
+        }
+    }
+
+    /**
+     * @return number of expired jobs claimed, so the caller knows whether more remain
+     */
+    private int deactivateBatch(LocalDateTime now) {
+        List<UUID> ids = jobRepository.findExpiredJobIds(now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        jobRepository.deactivateAll(ids, now);
+        for (Job job : jobRepository.findAllById(ids)) {
+            applicationEventPublisher.publishEvent(JobChangedEvent.builder()
+                    .jobId(job.getId())
+                    .type(JobEventType.UPDATED)
+                    .job(job)
+                    .build());
+        }
+        return ids.size();
+    }
+}
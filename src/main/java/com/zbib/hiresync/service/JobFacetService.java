@@ -0,0 +1,58 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.config.CacheConfig;
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.dto.filter.JobFilter;
+import com.zbib.hiresync.dto.response.JobFacetsResponse;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.JobRepositoryCustom.FacetCount;
+import com.zbib.hiresync.specification.JobSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class JobFacetService {
+
+    private final JobRepository jobRepository;
+    private final JobSpecification jobSpecification;
+
+    /**
+     * Counts matching jobs per employment type, workplace type and currency with one grouped query.
+     * Results are cached per filter and dropped whenever a job changes.
+     */
+    @Cacheable(cacheNames = CacheConfig.JOB_FACETS_CACHE, key = "#filter.toString()")
+    public JobFacetsResponse getFacets(JobFilter filter) {
+        Map<EmploymentType, Long> employmentTypes = new EnumMap<>(EmploymentType.class);
+        Map<WorkplaceType, Long> workplaceTypes = new EnumMap<>(WorkplaceType.class);
+        Map<String, Long> currencies = new TreeMap<>();
+
+        for (FacetCount row : jobRepository.countFacets(jobSpecification.buildSpecification(filter))) {
+            employmentTypes.merge(row.employmentType(), row.count(), Long::sum);
+            workplaceTypes.merge(row.workplaceType(), row.count(), Long::sum);
+            if (row.currency() != null) {
+                currencies.merge(row.currency(), row.count(), Long::sum);
+            }
+        }
+
+        return JobFacetsResponse.builder()
+                .employmentTypes(employmentTypes)
+                .workplaceTypes(workplaceTypes)
+                .currencies(currencies)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheConfig.JOB_FACETS_CACHE, allEntries = true)
+    public void onJobChanged(JobChangedEvent event) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.JobRepositoryCustom.RankingInput;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains {@code jobs.ranking_score} for the relevance-sorted feed. The score blends recency
+ * (exponential decay), application velocity and posting completeness, each in [0, 1].
+ * Scores decay with time, so active jobs are rescored in keyset-paged batches on a schedule.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobRankingService {
+
+    public static final String RELEVANCE_SORT = "relevance";
+    public static final Sort RELEVANCE_ORDER = Sort.by(Sort.Order.desc("rankingScore"), Sort.Order.asc("id"));
+
+    private static final int COMPLETE_DESCRIPTION_LENGTH = 500;
+    private static final int COMPLETE_REQUIREMENTS_LENGTH = 200;
+
+    private final JobRepository jobRepository;
+
+    @Value("${hiresync.ranking.recency-half-life:72h}")
+    private Duration recencyHalfLife;
+
+    /** Applications per day at which the velocity component reaches one half. */
+    @Value("${hiresync.ranking.velocity-midpoint:5}")
+    private double velocityMidpoint;
+
+    @Value("${hiresync.ranking.weights.recency:0.5}")
+    private double recencyWeight;
+
+    @Value("${hiresync.ranking.weights.velocity:0.35}")
+    private double velocityWeight;
+
+    @Value("${hiresync.ranking.weights.completeness:0.15}")
+    private double completenessWeight;
+
+    @Value("${hiresync.ranking.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${hiresync.ranking.recompute-interval-ms:600000}")
+    private long recomputeIntervalMs;
+
+    public double score(Job job) {
+        return score(new RankingInput(
+                job.getId(),
+                job.getCreatedAt(),
+                job.getApplicationCount(),
+                job.getMinSalary() != null || job.getMaxSalary() != null,
+                job.getAddress() != null,
+                job.getDescription() == null ? 0 : job.getDescription().length(),
+                job.getRequirements() == null ? 0 : job.getRequirements().length()), LocalDateTime.now());
+    }
+
+    double score(RankingInput input, LocalDateTime now) {
+        LocalDateTime createdAt = input.createdAt() == null ? now : input.createdAt();
+        double ageHours = Math.max(0, Duration.between(createdAt, now).toMinutes() / 60.0);
+
+        double recency = Math.pow(0.5, ageHours / (recencyHalfLife.toMinutes() / 60.0));
+
+        double applicationsPerDay = input.applicationCount() / Math.max(1.0, ageHours / 24);
+        double velocity = applicationsPerDay / (applicationsPerDay + velocityMidpoint);
+
+        double completeness = (
+                (input.hasSalary() ? 1 : 0)
+                + (input.hasLocation() ? 1 : 0)
+                + Math.min(1.0, (double) input.descriptionLength() / COMPLETE_DESCRIPTION_LENGTH)
+                + Math.min(1.0, (double) input.requirementsLength() / COMPLETE_REQUIREMENTS_LENGTH)) / 4;
+
+        return recencyWeight * recency + velocityWeight * velocity + completenessWeight * completeness;
+    }
+
+    /**
+     * Identifies the current scoring round; feed validators include it so relevance-sorted pages
+     * are not revalidated against a ranking that has since been recomputed.
+     */
+    public long currentRound() {
+        return System.currentTimeMillis() / recomputeIntervalMs;
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.ranking.recompute-interval-ms:600000}",
+            initialDelayString = "${hiresync.ranking.initial-delay-ms:60000}")
+    public void recomputeScores() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID afterId = null;
+        int total = 0;
+        List<RankingInput> batch;
+        do {
+            batch = jobRepository.findRankingInputs(afterId, batchSize);
+            Map<UUID, Double> scores = new HashMap<>(batch.size() * 2);
+            for (RankingInput input : batch) {
+                scores.put(input.id(), score(input, now));
+            }
+            jobRepository.updateRankingScores(scores);
+            total += batch.size();
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == batchSize);
+        log.debug("Recomputed ranking scores for {} active jobs", total);
+    }
+}
@@ -0,0 +1,160 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.repository.JobRepositoryCustom.JobChange;
+import com.zbib.hiresync.search.InvertedIndex;
+import com.zbib.hiresync.search.SearchHit;
+import com.zbib.hiresync.search.TextTokenizer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps an embedded full-text index of jobs in sync with the database so feed searches
+ * can be answered without LIKE scans. The index is rebuilt from a memory-mapped snapshot
+ * on startup and caught up with jobs changed on other nodes through the {@link JobChangeFeedService}.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobSearchIndexService {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int COMPANY_WEIGHT = 2;
+    private static final int BODY_WEIGHT = 1;
+
+    private final JobChangeFeedService jobChangeFeedService;
+
+    @Value("${hiresync.search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hiresync.search.index.snapshot-path:data/job-search-index.bin}")
+    private Path snapshotPath;
+
+    @Value("${hiresync.search.index.max-hits:10000}")
+    private int maxHits;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime since = JobChangeFeedService.BEGINNING;
+        if (Files.exists(snapshotPath)) {
+            try {
+                InvertedIndex.Snapshot snapshot = InvertedIndex.readSnapshot(snapshotPath);
+                LocalDateTime snapshotWatermark = LocalDateTime.ofEpochSecond(snapshot.watermark() / 1000,
+                        (int) (snapshot.watermark() % 1000) * 1_000_000, ZoneOffset.UTC);
+                if (jobChangeFeedService.retainsDeletesSince(snapshotWatermark)) {
+                    index = snapshot.index();
+                    since = snapshotWatermark;
+                    log.info("Loaded job search index snapshot with {} documents", index.size());
+                } else {
+                    log.info("Job search index snapshot from {} predates retained deletes, rebuilding", snapshotWatermark);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Could not load job search index snapshot, rebuilding: {}", e.getMessage());
+                index = new InvertedIndex();
+            }
+        }
+        jobChangeFeedService.subscribe(this::apply, since);
+        ready = true;
+        log.info("Job search index ready with {} documents", index.size());
+    }
+
+    /**
+     * Returns IDs of matching jobs ordered by BM25 score, or {@code null} when the index
+     * is not available and callers must fall back to database search. Only the best
+     * {@code max-hits} are returned; the feed pages through them in this order.
+     */
+    public List<UUID> search(String query) {
+        if (!ready) {
+            return null;
+        }
+        return index.search(query, maxHits).stream()
+                .map(SearchHit::key)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        apply(event.getJobId(), event.getType() == JobEventType.DELETED ? null : JobChange.of(event.getJob()));
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.search.index.compaction-interval-ms:30000}")
+    public void compact() {
+        if (ready) {
+            index.compactIfNeeded();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.search.index.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (!ready) {
+            return;
+        }
+        try {
+            // read the position first: everything before it is already in the index when the snapshot is taken
+            LocalDateTime watermark = jobChangeFeedService.watermark();
+            index.writeSnapshot(snapshotPath, watermark.toInstant(ZoneOffset.UTC).toEpochMilli());
+        } catch (IOException e) {
+            log.warn("Failed to write job search index snapshot: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshot();
+    }
+
+    /**
+     * Indexes the job's current text; {@code job} is null when it was deleted.
+     */
+    private void apply(UUID jobId, JobChange job) {
+        if (job == null) {
+            index.remove(jobId);
+        } else {
+            index.index(jobId, termFrequencies(job));
+        }
+    }
+
+    private static Map<String, Integer> termFrequencies(JobChange job) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, job.title(), TITLE_WEIGHT);
+        addTerms(frequencies, job.companyName(), COMPANY_WEIGHT);
+        addTerms(frequencies, job.description(), BODY_WEIGHT);
+        addTerms(frequencies, job.requirements(), BODY_WEIGHT);
+        return frequencies;
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : TextTokenizer.tokenize(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+}
@@ -1,25 +1,35 @@
 package com.zbib.hiresync.service;
 
 import com.zbib.hiresync.dto.builder.JobBuilder;
+import com.zbib.hiresync.dto.event.JobChangedEvent;
 import com.zbib.hiresync.dto.filter.JobFilter;
 import com.zbib.hiresync.dto.request.CreateJobRequest;
 import com.zbib.hiresync.dto.request.UpdateJobRequest;
+import com.zbib.hiresync.dto.response.FacetedPage;
 import com.zbib.hiresync.dto.response.JobListResponse;
 import com.zbib.hiresync.dto.response.JobResponse;
+import com.zbib.hiresync.entity.Address;
 import com.zbib.hiresync.entity.Job;
 import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.JobEventType;
 import com.zbib.hiresync.exception.AuthException;
 import com.zbib.hiresync.exception.JobException;
+import com.zbib.hiresync.geo.GeoDistance;
 import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.JobRepository.JobVersion;
 import com.zbib.hiresync.specification.JobSpecification;
 import com.zbib.hiresync.validation.JobValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -31,18 +41,38 @@ public class JobService {
     private final JobBuilder jobBuilder;
     private final JobSpecification jobSpecification;
     private final JobValidator jobValidator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final JobFacetService jobFacetService;
+    private final JobViewService jobViewService;
+    private final JobRankingService jobRankingService;
+    private final JobSimilarityService jobSimilarityService;
+    private final JobDuplicateService jobDuplicateService;
+    private final JobExpiryService jobExpiryService;
+    private final JobApplicationCounterService jobApplicationCounterService;
 
     @Transactional
     public JobResponse createJob(CreateJobRequest request, String username) {
         User user = userService.findByUsernameOrThrow(username);
         Job job = jobBuilder.buildJob(request, user);
         jobValidator.validateJobCompleteness(job);
+        if (job.getExpiresAt() == null) {
+            job.setExpiresAt(jobExpiryService.defaultExpiresAt());
+        }
+        job.setRankingScore(jobRankingService.score(job));
+        job.setMinhashSignature(jobSimilarityService.signature(job));
+        // SimHash under the duplicate policy is the one duplicate check; MinHash only feeds recommendations
+        job.setSimhash(jobDuplicateService.fingerprint(job));
+        List<UUID> ownDuplicates = jobDuplicateService.checkNewJob(user.getId(), job.getSimhash());
         
         Job savedJob = jobRepository.save(job);
+        publishJobChanged(savedJob, JobEventType.CREATED);
         
-        return jobBuilder.buildJobResponse(savedJob);
+        JobResponse response = jobBuilder.buildJobResponse(savedJob, 0);
+        response.setPossibleDuplicates(ownDuplicates);
+        return response;
     }
     
+    @Transactional(readOnly = true)
     public Page<JobListResponse> getJobs(JobFilter filter, Pageable pageable, String username) {
         User user = userService.findByUsernameOrThrow(username);
         
@@ -51,18 +81,33 @@ public class JobService {
         Specification<Job> spec = jobSpecification.buildSpecification(filter);
         
         Page<Job> jobsPage = jobRepository.findAll(spec, pageable);
+        Map<UUID, Long> counts = jobApplicationCounterService.getCounts(jobsPage.getContent());
         
-        return jobsPage.map(jobBuilder::buildJobListResponse);
+        return jobsPage.map(job -> jobBuilder.buildJobListResponse(job, applicationCount(job, counts)));
     }
     
+    @Transactional(readOnly = true)
     public Page<JobListResponse> getJobsFeed(JobFilter filter, Pageable pageable) {
+        return getJobsFeed(filter, pageable, false);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<JobListResponse> getJobsFeed(JobFilter filter, Pageable pageable, boolean includeFacets) {
+        jobValidator.validateRadiusFilter(filter);
         filter.setActive(true);
         
         Specification<Job> spec = jobSpecification.buildSpecification(filter);
         
-        Page<Job> jobsPage = jobRepository.findAll(spec, pageable);
+        Page<Job> jobsPage = jobRepository.findAll(spec, resolveFeedPageable(pageable));
+        Map<UUID, Long> counts = jobApplicationCounterService.getCounts(jobsPage.getContent());
         
-        return jobsPage.map(jobBuilder::buildJobListResponse);
+        Page<JobListResponse> responses = jobsPage.map(job -> jobBuilder.buildJobListResponse(job,
+                applicationCount(job, counts), filter.hasRadius() ? distanceKm(job, filter) : null));
+
+        if (!includeFacets) {
+            return responses;
+        }
+        return new FacetedPage<>(responses, jobFacetService.getFacets(filter));
     }
     
     @Transactional
@@ -76,10 +121,14 @@ public class JobService {
 
         jobBuilder.updateJob(job, request);
         jobValidator.validateJobCompleteness(job);
+        job.setRankingScore(jobRankingService.score(job));
+        job.setMinhashSignature(jobSimilarityService.signature(job));
+        job.setSimhash(jobDuplicateService.fingerprint(job));
         
         Job updatedJob = jobRepository.save(job);
+        publishJobChanged(updatedJob, JobEventType.UPDATED);
         
-        return jobBuilder.buildJobResponse(updatedJob);
+        return jobBuilder.buildJobResponse(updatedJob, jobApplicationCounterService.getCount(updatedJob));
     }
     
     @Transactional
@@ -91,20 +140,79 @@ public class JobService {
             throw AuthException.accessDenied("job", jobId, username);
         }
         
-        if (job.hasApplications()) {
+        if (jobApplicationCounterService.getCount(job) > 0) {
             throw JobException.hasApplications(jobId);
         }
         
         jobRepository.delete(job);
+        publishJobChanged(job, JobEventType.DELETED);
     }
 
+    @Transactional(readOnly = true)
     public JobResponse getJobById(UUID jobId) {
         Job job = findJobByIdOrThrow(jobId);
-        return jobBuilder.buildJobResponse(job);
+        JobResponse response = jobBuilder.buildJobResponse(job, jobApplicationCounterService.getCount(job));
+        response.setViewCount(jobViewService.getViewCount(jobId));
+        return response;
+    }
+
+    /**
+     * Computes the job's entity tag from its update time and counts, without loading the entity.
+     */
+    @Transactional(readOnly = true)
+    public String getJobETag(UUID jobId) {
+        JobVersion version = jobRepository.findVersionById(jobId)
+                .orElseThrow(() -> JobException.notFound(jobId));
+        return jobBuilder.buildJobETag(jobId, version.getUpdatedAt(), version.getApplications(), version.getViews());
+    }
+
+    public String getJobETag(JobResponse job) {
+        return jobBuilder.buildJobETag(job.getId(), job.getUpdatedAt(), job.getApplicationCount(), job.getViewCount());
+    }
+
+    @Transactional(readOnly = true)
+    public String getJobsFeedETag(JobFilter filter, Pageable pageable, boolean includeFacets) {
+        long rankingRound = isRelevanceSorted(pageable) ? jobRankingService.currentRound() : 0;
+        return jobBuilder.buildFeedETag(filter, pageable, includeFacets, rankingRound, jobRepository.findChangeMarker());
+    }
+
+    /**
+     * Maps {@code sort=relevance} onto the precomputed ranking score, which is backed by an index.
+     */
+    private Pageable resolveFeedPageable(Pageable pageable) {
+        if (!isRelevanceSorted(pageable) || pageable.isUnpaged()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), JobRankingService.RELEVANCE_ORDER);
+    }
+
+    private boolean isRelevanceSorted(Pageable pageable) {
+        return pageable.getSort().getOrderFor(JobRankingService.RELEVANCE_SORT) != null;
     }
 
     private Job findJobByIdOrThrow(UUID jobId) {
         return jobRepository.findById(jobId)
                 .orElseThrow(() -> JobException.notFound(jobId));
     }
+
+    private static long applicationCount(Job job, Map<UUID, Long> counts) {
+        return counts.getOrDefault(job.getId(), (long) job.getApplicationCount());
+    }
+
+    private Double distanceKm(Job job, JobFilter filter) {
+        Address address = job.getAddress();
+        if (address == null || address.getLatitude() == null || address.getLongitude() == null) {
+            return null;
+        }
+        return GeoDistance.haversineKm(filter.getLatitude(), filter.getLongitude(),
+                address.getLatitude(), address.getLongitude());
+    }
+
+    private void publishJobChanged(Job job, JobEventType type) {
+        applicationEventPublisher.publishEvent(JobChangedEvent.builder()
+                .jobId(job.getId())
+                .type(type)
+                .job(job)
+                .build());
+    }
 }
\ No newline at end of file
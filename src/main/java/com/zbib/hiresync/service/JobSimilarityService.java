@@ -0,0 +1,126 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.builder.JobBuilder;
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.dto.response.JobListResponse;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.exception.JobException;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.JobRepositoryCustom.JobChange;
+import com.zbib.hiresync.search.LshIndex;
+import com.zbib.hiresync.search.MinHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Finds jobs with similar text through an in-memory {@link LshIndex} of the MinHash signatures of
+ * active jobs. Signatures are stored with the job on write; the index follows job events and, for
+ * changes made on other nodes, the {@link JobChangeFeedService}. Used for recommendations only;
+ * duplicate postings are detected by {@link JobDuplicateService}.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobSimilarityService {
+
+    private final JobRepository jobRepository;
+    private final JobBuilder jobBuilder;
+    private final JobChangeFeedService jobChangeFeedService;
+    private final JobApplicationCounterService jobApplicationCounterService;
+
+    @Value("${hiresync.similarity.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hiresync.similarity.min-similarity:0.3}")
+    private double minSimilarity;
+
+    @Value("${hiresync.similarity.max-limit:20}")
+    private int maxLimit;
+
+    private final LshIndex index = new LshIndex();
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        jobChangeFeedService.subscribe(this::apply, JobChangeFeedService.BEGINNING);
+        log.info("Job similarity index ready with {} jobs", index.size());
+    }
+
+    public byte[] signature(Job job) {
+        return MinHash.toBytes(MinHash.signature(job.getTitle(), job.getDescription(), job.getRequirements()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobListResponse> findSimilarJobs(UUID jobId, int limit) {
+        int[] signature = index.get(jobId);
+        if (signature == null) {
+            signature = signatureOf(JobChange.of(jobRepository.findById(jobId).orElseThrow(() -> JobException.notFound(jobId))));
+        }
+        if (signature == null) {
+            return List.of();
+        }
+
+        Map<UUID, Double> candidates = index.candidates(signature, minSimilarity);
+        candidates.remove(jobId);
+        List<UUID> ids = candidates.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                .limit(Math.min(Math.max(limit, 1), maxLimit))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        Map<UUID, Job> jobs = jobRepository.findAllById(ids).stream()
+                .filter(Job::isActive)
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        Map<UUID, Long> counts = jobApplicationCounterService.getCounts(jobs.values());
+        return ids.stream()
+                .filter(jobs::containsKey)
+                .map(id -> jobBuilder.buildSimilarJobResponse(jobs.get(id),
+                        counts.getOrDefault(id, (long) jobs.get(id).getApplicationCount()), candidates.get(id)))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        apply(event.getJobId(), event.getType() == JobEventType.DELETED ? null : JobChange.of(event.getJob()));
+    }
+
+    /**
+     * Indexes the job's current signature; {@code job} is null when it was deleted.
+     */
+    private void apply(UUID jobId, JobChange job) {
+        int[] signature = job != null && job.active() ? signatureOf(job) : null;
+        if (signature == null) {
+            index.remove(jobId);
+        } else {
+            index.put(jobId, signature);
+        }
+    }
+
+    /**
+     * Uses the stored signature, computing it for rows written before signatures existed.
+     */
+    private int[] signatureOf(JobChange job) {
+        int[] stored = MinHash.fromBytes(job.minhashSignature());
+        return stored != null ? stored : MinHash.signature(job.title(), job.description(), job.requirements());
+    }
+}
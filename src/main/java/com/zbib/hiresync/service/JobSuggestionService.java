@@ -0,0 +1,97 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.dto.response.JobSuggestionResponse;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.enums.SuggestionType;
+import com.zbib.hiresync.repository.JobRepositoryCustom.JobChange;
+import com.zbib.hiresync.search.SuggestionTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Autocomplete over titles and company names of active jobs. Each distinct phrase is weighted by
+ * the number of active jobs using it; changes are applied incrementally from job events and, for
+ * changes made on other nodes, from the {@link JobChangeFeedService}.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobSuggestionService {
+
+    private final JobChangeFeedService jobChangeFeedService;
+
+    @Value("${hiresync.suggestions.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hiresync.suggestions.max-limit:20}")
+    private int maxLimit;
+
+    private final SuggestionTrie<SuggestionType> trie = new SuggestionTrie<>();
+    private final Map<UUID, IndexedJob> indexedJobs = new ConcurrentHashMap<>();
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        jobChangeFeedService.subscribe(this::apply, JobChangeFeedService.BEGINNING);
+        log.info("Job suggestions ready with {} phrases", trie.size());
+    }
+
+    public List<JobSuggestionResponse> suggest(String query, int limit) {
+        return trie.suggest(query, Math.min(Math.max(limit, 1), maxLimit)).stream()
+                .map(suggestion -> JobSuggestionResponse.builder()
+                        .text(suggestion.text())
+                        .type(suggestion.kind())
+                        .jobCount(suggestion.weight())
+                        .build())
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.getType() == JobEventType.DELETED) {
+            apply(event.getJobId(), null);
+        } else {
+            apply(event.getJobId(), JobChange.of(event.getJob()));
+        }
+    }
+
+    /**
+     * Replaces the job's previous contribution with its current one; {@code job} is null when it was deleted.
+     */
+    private synchronized void apply(UUID jobId, JobChange job) {
+        IndexedJob current = job != null && job.active() ? new IndexedJob(job.title(), job.companyName()) : null;
+        IndexedJob previous = current == null ? indexedJobs.remove(jobId) : indexedJobs.put(jobId, current);
+        if (current != null && current.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            trie.adjust(SuggestionType.TITLE, previous.title(), -1);
+            trie.adjust(SuggestionType.COMPANY, previous.companyName(), -1);
+        }
+        if (current != null) {
+            trie.adjust(SuggestionType.TITLE, current.title(), 1);
+            trie.adjust(SuggestionType.COMPANY, current.companyName(), 1);
+        }
+    }
+
+    private record IndexedJob(String title, String companyName) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.entity.JobViewCount;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.repository.JobViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts job views in memory and periodically adds them to {@code job_view_counts} in one batch.
+ * Recording a view is lock-free and allocates nothing once a job has been viewed; views not yet
+ * flushed are lost if the process dies, which is acceptable for this statistic. Reads return the
+ * flushed count only, so every node reports the same number and the job ETag can cover it.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class JobViewService {
+
+    private final JobViewCountRepository jobViewCountRepository;
+
+    @Value("${hiresync.views.enabled:true}")
+    private boolean enabled;
+
+    private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void recordView(UUID jobId) {
+        if (!enabled) {
+            return;
+        }
+        LongAdder counter = pending.get(jobId);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(jobId, id -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Returns the flushed view count; views recorded since the last flush are not included.
+     */
+    public long getViewCount(UUID jobId) {
+        return jobViewCountRepository.findById(jobId)
+                .map(JobViewCount::getViewCount)
+                .orElse(0L);
+    }
+
+    @Scheduled(fixedDelayString = "${hiresync.views.flush-interval-ms:10000}")
+    public void flush() {
+        Map<UUID, Long> deltas = new HashMap<>();
+        pending.forEach((jobId, counter) -> {
+            long views = counter.sumThenReset();
+            if (views > 0) {
+                deltas.put(jobId, views);
+            } else {
+                // idle since the last flush; drop it so the map only holds recently viewed jobs
+                pending.remove(jobId, counter);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            jobViewCountRepository.addViews(deltas);
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush views for {} jobs, retrying on next flush: {}", deltas.size(), e.getMessage());
+            deltas.forEach((jobId, views) -> pending.computeIfAbsent(jobId, id -> new LongAdder()).add(views));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobEventType.DELETED) {
+            pending.remove(event.getJobId());
+            jobViewCountRepository.deleteById(event.getJobId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
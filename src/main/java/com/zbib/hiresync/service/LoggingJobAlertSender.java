@@ -0,0 +1,22 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.entity.JobAlertNotification;
+import com.zbib.hiresync.entity.User;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default sender until an e-mail or push channel is configured; records each digest in the log.
+ */
+@Log4j2
+@Component
+public class LoggingJobAlertSender implements JobAlertSender {
+
+    @Override
+    public void send(User user, List<JobAlertNotification> notifications) {
+        log.info("Job alert digest for {}: {} new matching jobs {}", user.getEmail(), notifications.size(),
+                notifications.stream().map(JobAlertNotification::getJobId).toList());
+    }
+}
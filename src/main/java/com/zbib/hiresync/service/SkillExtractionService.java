@@ -0,0 +1,58 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.search.SkillDictionary;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Finds skills in resume text against the bundled skill dictionary.
+ */
+@Log4j2
+@Service
+public class SkillExtractionService {
+
+    @Value("${hiresync.skills.dictionary:classpath:skills/skills.tsv}")
+    private Resource dictionaryResource;
+
+    private SkillDictionary dictionary;
+
+    @PostConstruct
+    void load() {
+        try (Reader reader = new InputStreamReader(dictionaryResource.getInputStream(), StandardCharsets.UTF_8)) {
+            dictionary = SkillDictionary.load(reader);
+            log.info("Loaded skill dictionary with {} skills", dictionary.skillCount());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load skill dictionary", e);
+        }
+    }
+
+    public Set<String> extract(String text) {
+        return dictionary.extract(text);
+    }
+
+    /**
+     * Maps user-supplied skill names to their canonical names; names missing from the dictionary
+     * are kept as given.
+     */
+    public Set<String> canonicalize(Collection<String> skills) {
+        Set<String> canonical = new LinkedHashSet<>();
+        for (String skill : skills) {
+            if (skill != null && !skill.isBlank()) {
+                canonical.add(dictionary.canonical(skill).orElse(skill.trim()));
+            }
+        }
+        return canonical;
+    }
+}
@@ -1,20 +1,43 @@
 package com.zbib.hiresync.specification;
 
+import com.zbib.hiresync.config.SearchHitFunctionContributor;
 import com.zbib.hiresync.dto.filter.ApplicationFilter;
 import com.zbib.hiresync.entity.Application;
-import jakarta.persistence.criteria.Join;
+import com.zbib.hiresync.enums.SkillMatchMode;
+import com.zbib.hiresync.service.ApplicationSkillIndexService;
+import com.zbib.hiresync.service.SkillExtractionService;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Component
+@RequiredArgsConstructor
 public class ApplicationSpecification {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final SkillExtractionService skillExtractionService;
+    private final ApplicationSkillIndexService applicationSkillIndexService;
+
     public Specification<Application> buildSpecification(ApplicationFilter filter) {
+        Set<String> skills = filter.getSkills() == null ? Set.of() : skillExtractionService.canonicalize(filter.getSkills());
+        SkillMatchMode skillMatch = filter.getSkillMatch() == null ? SkillMatchMode.ALL : filter.getSkillMatch();
+        List<UUID> skillHits = !skills.isEmpty() && filter.getJobId() != null
+                ? applicationSkillIndexService.match(filter.getJobId(), skills, skillMatch)
+                : null;
+
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             
@@ -23,15 +46,26 @@ public class ApplicationSpecification {
             }
             
             if (filter.getSearchQuery() != null && !filter.getSearchQuery().isBlank()) {
-                String searchTerm = "%" + filter.getSearchQuery().toLowerCase() + "%";
-                predicates.add(cb.or(
-                    cb.like(cb.lower(root.get("applicantName")), searchTerm),
-                    cb.like(cb.lower(root.get("applicantEmail")), searchTerm),
-                    cb.like(cb.lower(root.get("coverLetter")), searchTerm),
-                    cb.like(cb.lower(root.get("notes")), searchTerm)
-                ));
+                // every word must appear somewhere in name, email, notes or summary
+                for (String term : WHITESPACE.split(filter.getSearchQuery().trim().toLowerCase(Locale.ROOT))) {
+                    predicates.add(cb.like(root.get("searchText"), "%" + escapeLike(term) + "%", LIKE_ESCAPE));
+                }
             }
             
+            if (skillHits != null && skillHits.isEmpty()) {
+                predicates.add(cb.disjunction());
+            } else if (skillHits != null) {
+                // one array parameter however many applicants match; an IN list could exceed the driver's bind limit
+                Expression<UUID[]> hits = ((HibernateCriteriaBuilder) cb).value(skillHits.toArray(UUID[]::new));
+                predicates.add(cb.isTrue(cb.function(SearchHitFunctionContributor.HIT_MATCH, Boolean.class, hits, root.get("id"))));
+            } else if (!skills.isEmpty()) {
+                Expression<Set<String>> applicantSkills = root.get("skills");
+                Predicate[] skillPredicates = skills.stream()
+                        .map(skill -> cb.isMember(skill, applicantSkills))
+                        .toArray(Predicate[]::new);
+                predicates.add(skillMatch == SkillMatchMode.ANY ? cb.or(skillPredicates) : cb.and(skillPredicates));
+            }
+
             if (filter.getStatus() != null) {
                 predicates.add(cb.equal(root.get("status"), filter.getStatus()));
             }
@@ -64,14 +98,12 @@ public class ApplicationSpecification {
             if (filter.getApplicantEmail() != null && !filter.getApplicantEmail().isBlank()) {
                 predicates.add(cb.equal(root.get("applicantEmail"), filter.getApplicantEmail()));
             }
-            
-            if (filter.getPhoneNumber() != null && !filter.getPhoneNumber().isBlank()) {
-                predicates.add(cb.like(root.get("phoneNumber"), "%" + filter.getPhoneNumber() + "%"));
-            }
-            
-            query.distinct(true);
-            
+
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
\ No newline at end of file
@@ -1,24 +1,58 @@
 package com.zbib.hiresync.specification;
 
+import com.zbib.hiresync.config.SearchHitFunctionContributor;
+import com.zbib.hiresync.config.TrigramFunctionContributor;
 import com.zbib.hiresync.dto.filter.JobFilter;
+import com.zbib.hiresync.entity.Address;
 import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.geo.GeoDistance;
+import com.zbib.hiresync.service.GeocodingService;
+import com.zbib.hiresync.service.JobSearchIndexService;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class JobSpecification {
 
+    private final JobSearchIndexService jobSearchIndexService;
+    private final GeocodingService geocodingService;
+
     public Specification<Job> buildSpecification(JobFilter filter) {
+        List<UUID> searchHits = filter.getSearchQuery() != null && !filter.getSearchQuery().isBlank()
+                ? jobSearchIndexService.search(filter.getSearchQuery())
+                : null;
+        Optional<String> canonicalCity = geocodingService.canonicalCity(filter.getCity());
+        Optional<String> canonicalCountry = geocodingService.canonicalCountry(filter.getCountry());
+
+        boolean fuzzy = Boolean.TRUE.equals(filter.getFuzzyMatch());
+
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
-            
-            if (filter.getSearchQuery() != null && !filter.getSearchQuery().isBlank()) {
+
+            Expression<Integer> searchRank = null;
+            if (searchHits != null && searchHits.isEmpty()) {
+                predicates.add(cb.disjunction());
+            } else if (searchHits != null) {
+                // one array parameter instead of an IN list, so the bind count stays at one however many hits there are
+                HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+                Expression<UUID[]> hits = hcb.value(searchHits.toArray(UUID[]::new));
+                predicates.add(cb.isTrue(cb.function(SearchHitFunctionContributor.HIT_MATCH, Boolean.class, hits, root.get("id"))));
+                searchRank = cb.function(SearchHitFunctionContributor.HIT_RANK, Integer.class, hits, root.get("id"));
+            } else if (filter.getSearchQuery() != null && !filter.getSearchQuery().isBlank()) {
                 String searchTerm = "%" + filter.getSearchQuery().toLowerCase() + "%";
                 predicates.add(cb.or(
                     cb.like(cb.lower(root.get("title")), searchTerm),
@@ -29,19 +63,51 @@ public class JobSpecification {
             }
             
             if (filter.getCity() != null && !filter.getCity().isBlank()) {
-                predicates.add(cb.like(
-                    cb.lower(root.get("address").get("city")), 
-                    "%" + filter.getCity().toLowerCase() + "%"
-                ));
+                if (canonicalCity.isPresent()) {
+                    predicates.add(cb.equal(root.get("address").get("city"), canonicalCity.get()));
+                } else {
+                    predicates.add(textMatch(cb, root.get("address").get("city"), filter.getCity(), fuzzy));
+                }
             }
             
             if (filter.getCountry() != null && !filter.getCountry().isBlank()) {
-                predicates.add(cb.like(
-                    cb.lower(root.get("address").get("country")), 
-                    "%" + filter.getCountry().toLowerCase() + "%"
-                ));
+                if (canonicalCountry.isPresent()) {
+                    predicates.add(cb.equal(root.get("address").get("country"), canonicalCountry.get()));
+                } else {
+                    predicates.add(textMatch(cb, root.get("address").get("country"), filter.getCountry(), fuzzy));
+                }
+            }
+
+            if (filter.getCompanyName() != null && !filter.getCompanyName().isBlank()) {
+                predicates.add(textMatch(cb, root.get("companyName"), filter.getCompanyName(), fuzzy));
+            }
+            
+            boolean orderByDistance = false;
+            if (filter.hasRadius()) {
+                Path<Address> address = root.get("address");
+                Path<Double> latitude = address.get("latitude");
+                Path<Double> longitude = address.get("longitude");
+
+                GeoDistance.BoundingBox box = GeoDistance.boundingBox(
+                        filter.getLatitude(), filter.getLongitude(), filter.getRadiusKm());
+                predicates.add(cb.between(latitude, box.minLatitude(), box.maxLatitude()));
+                if (!box.wrapsLongitude()) {
+                    predicates.add(cb.between(longitude, box.minLongitude(), box.maxLongitude()));
+                }
+
+                Expression<Double> distance = haversineKm(cb, latitude, longitude, filter.getLatitude(), filter.getLongitude());
+                predicates.add(cb.lessThanOrEqualTo(distance, filter.getRadiusKm()));
+
+                if (Boolean.TRUE.equals(filter.getSortByDistance()) && Job.class.equals(query.getResultType())) {
+                    query.orderBy(cb.asc(distance));
+                    orderByDistance = true;
+                }
             }
             
+            if (filter.getActive() != null) {
+                predicates.add(cb.equal(root.get("active"), filter.getActive()));
+            }
+
             if (filter.getRemoteAllowed() != null && filter.getRemoteAllowed()) {
                 predicates.add(cb.equal(root.get("workplaceType"), "REMOTE"));
             }
@@ -83,9 +149,60 @@ public class JobSpecification {
                 predicates.add(cb.equal(root.get("createdBy").get("id"), filter.getCreatedById()));
             }
             
-            query.distinct(true);
+            // hits arrive best first; keep that order unless the caller sorts explicitly, which replaces it
+            boolean orderByRank = false;
+            if (searchRank != null && !orderByDistance && Job.class.equals(query.getResultType())) {
+                query.orderBy(cb.asc(searchRank));
+                orderByRank = true;
+            }
+
+            // DISTINCT cannot be combined with ordering by an expression outside the select list
+            query.distinct(!orderByDistance && !orderByRank);
             
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Case-insensitive substring match, optionally widened with trigram similarity. Both forms
+     * can use the {@code lower(...) gin_trgm_ops} indexes on PostgreSQL.
+     */
+    private Predicate textMatch(CriteriaBuilder cb, Expression<String> column, String value, boolean fuzzy) {
+        Expression<String> lowerColumn = cb.lower(column);
+        String lowerValue = value.trim().toLowerCase();
+        Predicate contains = cb.like(lowerColumn, "%" + lowerValue + "%");
+        if (!fuzzy) {
+            return contains;
+        }
+        // bind the query text as a parameter; CriteriaBuilder#literal would inline it into the SQL
+        Expression<String> query = ((HibernateCriteriaBuilder) cb).value(lowerValue);
+        Expression<Boolean> similar = cb.function(
+                TrigramFunctionContributor.TRGM_MATCH, Boolean.class, lowerColumn, query);
+        return cb.or(contains, cb.isTrue(similar));
+    }
+
+    private Expression<Double> haversineKm(CriteriaBuilder cb, Expression<Double> latitude, Expression<Double> longitude,
+                                           double originLatitude, double originLongitude) {
+        Expression<Double> halfDeltaLat = cb.quot(radians(cb, cb.diff(latitude, originLatitude)), 2.0).as(Double.class);
+        Expression<Double> halfDeltaLon = cb.quot(radians(cb, cb.diff(longitude, originLongitude)), 2.0).as(Double.class);
+
+        Expression<Double> a = cb.sum(
+                square(cb, cb.function("sin", Double.class, halfDeltaLat)),
+                cb.prod(
+                        cb.prod(Math.cos(Math.toRadians(originLatitude)), cb.function("cos", Double.class, radians(cb, latitude))),
+                        square(cb, cb.function("sin", Double.class, halfDeltaLon))));
+
+        // rounding can push sqrt(a) just past 1 for antipodal points, where asin is undefined
+        Expression<Double> sqrtA = cb.function("least", Double.class, cb.literal(1.0), cb.sqrt(a).as(Double.class));
+        Expression<Double> centralAngle = cb.function("asin", Double.class, sqrtA);
+        return cb.prod(2 * GeoDistance.EARTH_RADIUS_KM, centralAngle);
+    }
+
+    private Expression<Double> radians(CriteriaBuilder cb, Expression<? extends Number> degrees) {
+        return cb.function("radians", Double.class, degrees);
+    }
+
+    private Expression<Double> square(CriteriaBuilder cb, Expression<Double> value) {
+        return cb.prod(value, value);
+    }
 }
\ No newline at end of file
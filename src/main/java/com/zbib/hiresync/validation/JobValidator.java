@@ -1,5 +1,6 @@
 package com.zbib.hiresync.validation;
 
+import com.zbib.hiresync.dto.filter.JobFilter;
 import com.zbib.hiresync.entity.Job;
 import com.zbib.hiresync.exception.ValidationException;
 import org.springframework.stereotype.Component;
@@ -61,4 +62,39 @@ public class JobValidator {
             throw ValidationException.missingRequiredFields(errors);
         }
     }
-}
\ No newline at end of file
+
+    public void validateRadiusFilter(JobFilter filter) {
+        if (filter.getLatitude() == null && filter.getLongitude() == null && filter.getRadiusKm() == null) {
+            return;
+        }
+
+        Map<String, String> errors = new HashMap<>();
+
+        if (filter.getLatitude() == null || filter.getLatitude() < -90 || filter.getLatitude() > 90) {
+            errors.put("latitude", "Latitude between -90 and 90 is required for radius search");
+        }
+
+        if (filter.getLongitude() == null || filter.getLongitude() < -180 || filter.getLongitude() > 180) {
+            errors.put("longitude", "Longitude between -180 and 180 is required for radius search");
+        }
+
+        if (filter.getRadiusKm() == null || filter.getRadiusKm() <= 0) {
+            errors.put("radiusKm", "Radius must be a positive number of kilometers");
+        }
+
+        if (!errors.isEmpty()) {
+            throw ValidationException.invalidInput(errors);
+        }
+    }
+
+    /**
+     * Rejects filters a saved alert can never satisfy: alerts are matched only against jobs as they
+     * are created, so they only ever see active jobs.
+     */
+    public void validateAlertFilter(JobFilter filter) {
+        validateRadiusFilter(filter);
+        if (Boolean.FALSE.equals(filter.getActive())) {
+            throw ValidationException.invalidInput(Map.of("active", "Alerts only match active jobs"));
+        }
+    }
+}
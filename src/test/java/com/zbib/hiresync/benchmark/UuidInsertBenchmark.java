@@ -0,0 +1,109 @@
+package com.zbib.hiresync.benchmark;
+
+import com.zbib.hiresync.id.UuidV7;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares random (version 4) and time-ordered (version 7) primary keys by inserting the same
+ * number of rows into two otherwise identical tables and reporting throughput and, on PostgreSQL,
+ * the size of each primary key index. A smaller unreported round of both warms up the JVM and the
+ * database first, and the measured rounds alternate which key type goes first, so neither side is
+ * favoured by running on a warmer cache. Not part of the test suite; run it by hand against a
+ * scratch database:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;postgresql driver&gt; \
+ *     com.zbib.hiresync.benchmark.UuidInsertBenchmark jdbc:postgresql://localhost:5432/bench user password 2000000 4
+ * </pre>
+ */
+public final class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int WARM_UP_ROWS = 100_000;
+    private static final Keys RANDOM = new Keys("random", UUID::randomUUID);
+    private static final Keys V7 = new Keys("v7", UuidV7::next);
+
+    private UuidInsertBenchmark() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length < 3) {
+            System.err.println("Usage: UuidInsertBenchmark <jdbc-url> <user> <password> [rows] [rounds]");
+            System.exit(1);
+        }
+        int rows = args.length > 3 ? Integer.parseInt(args[3]) : 1_000_000;
+        int rounds = args.length > 4 ? Integer.parseInt(args[4]) : 2;
+
+        try (Connection connection = DriverManager.getConnection(args[0], args[1], args[2])) {
+            connection.setAutoCommit(false);
+            boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgres");
+            for (Keys keys : List.of(RANDOM, V7)) {
+                run(connection, postgres, keys, Math.min(rows, WARM_UP_ROWS), 0);
+            }
+
+            System.out.printf("%-6s %-8s %12s %14s %16s%n", "round", "keys", "rows", "rows/s", "pk index bytes");
+            for (int round = 1; round <= rounds; round++) {
+                for (Keys keys : round % 2 == 1 ? List.of(RANDOM, V7) : List.of(V7, RANDOM)) {
+                    run(connection, postgres, keys, rows, round);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts {@code rows} keys into a fresh table and prints the result; round 0 is a warm-up and not printed.
+     */
+    private static void run(Connection connection, boolean postgres, Keys keys, int rows, int round) throws SQLException {
+        String table = "uuid_bench_" + keys.name();
+        Supplier<UUID> ids = keys.ids();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, payload VARCHAR(64) NOT NULL)");
+        }
+        connection.commit();
+
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "applicant-" + i);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        String indexSize = "n/a";
+        if (postgres && round > 0) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+                result.next();
+                indexSize = String.valueOf(result.getLong(1));
+            }
+        }
+        if (round > 0) {
+            System.out.printf("%-6d %-8s %12d %14.0f %16s%n", round, keys.name(), rows, rows / seconds, indexSize);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+    }
+
+    private record Keys(String name, Supplier<UUID> ids) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.zbib.hiresync.geo;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GazetteerTest {
+
+    private static final String COUNTRIES = """
+            # code\tname\taliases
+            CA\tCanada\t
+            DE\tGermany\tdeutschland
+            FR\tFrance\t
+            GB\tUnited Kingdom\tuk,great britain
+            US\tUnited States\tusa,united states of america
+            """;
+
+    private static final String PLACES = """
+            # name\tcountry\tstate\tlatitude\tlongitude\tpopulation\taliases
+            Paris\tFR\tIle-de-France\t48.8566\t2.3522\t2100000\t
+            Paris\tUS\tTexas\t33.6609\t-95.5555\t25000\t
+            London\tGB\tEngland\t51.5072\t-0.1276\t8900000\t
+            London\tCA\tOntario\t42.9849\t-81.2453\t420000\t
+            Munich\tDE\tBavaria\t48.1351\t11.5820\t1500000\tmunchen
+            New York\tUS\tNew York\t40.7128\t-74.0060\t8300000\tnyc,new york city
+            """;
+
+    private static Gazetteer gazetteer;
+
+    @BeforeAll
+    static void load() throws IOException {
+        gazetteer = Gazetteer.load(new StringReader(COUNTRIES), new StringReader(PLACES));
+    }
+
+    @Test
+    void prefersTheLargerPlaceWithoutHints() {
+        GeocodedLocation location = gazetteer.resolve("Paris").orElseThrow();
+
+        assertThat(location.country()).isEqualTo("France");
+        assertThat(location.latitude()).isEqualTo(48.8566);
+    }
+
+    @Test
+    void stateAndCountryNamesDisambiguate() {
+        assertThat(gazetteer.resolve("Paris, Texas").orElseThrow().country()).isEqualTo("United States");
+        assertThat(gazetteer.resolve("London, Ontario").orElseThrow().country()).isEqualTo("Canada");
+        assertThat(gazetteer.resolve("London - Canada").orElseThrow().state()).isEqualTo("Ontario");
+    }
+
+    @Test
+    void resolvesAliasesAndDiacritics() {
+        assertThat(gazetteer.resolve("München, Deutschland").orElseThrow().city()).isEqualTo("Munich");
+        assertThat(gazetteer.resolve("NYC (hybrid)").orElseThrow().city()).isEqualTo("New York");
+    }
+
+    @Test
+    void shortNamesOnlyCountAsAWholePart() {
+        assertThat(gazetteer.resolve("Office in NYC")).isEmpty();
+    }
+
+    @Test
+    void fallsBackToTheCountry() {
+        GeocodedLocation location = gazetteer.resolve("Remote, Germany").orElseThrow();
+
+        assertThat(location.city()).isNull();
+        assertThat(location.country()).isEqualTo("Germany");
+        assertThat(gazetteer.resolve("Atlantis")).isEmpty();
+        assertThat(gazetteer.resolve(" ")).isEmpty();
+    }
+
+    @Test
+    void canonicalizesNamesAndCodes() {
+        assertThat(gazetteer.canonicalCity("munchen")).contains("Munich");
+        assertThat(gazetteer.canonicalCountry("usa")).contains("United States");
+        assertThat(gazetteer.canonicalCountry("DE")).contains("Germany");
+        assertThat(gazetteer.canonicalCountry("Bavaria")).isEmpty();
+    }
+
+    @Test
+    void rejectsPlacesInUnknownCountries() {
+        String places = "Lisbon\tPT\t\t38.7223\t-9.1393\t545000\t\n";
+
+        assertThatThrownBy(() -> Gazetteer.load(new StringReader(COUNTRIES), new StringReader(places)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("PT");
+    }
+}
@@ -0,0 +1,44 @@
+package com.zbib.hiresync.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+    @Test
+    void keepsEveryValueStoredUnderAKey() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("paris", "FR");
+        trie.put("paris", "US");
+        trie.put("parma", "IT");
+
+        assertThat(trie.get("paris")).containsExactly("FR", "US");
+        assertThat(trie.get("par")).isEmpty();
+        assertThat(trie.get("parisian")).isEmpty();
+    }
+
+    @Test
+    void longestMatchEndsAtAWordBoundary() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("new", "short");
+        trie.put("new york", "long");
+
+        PrefixTrie.Match<String> match = trie.longestMatch("near new york city", 5);
+
+        assertThat(match.start()).isEqualTo(5);
+        assertThat(match.end()).isEqualTo(13);
+        assertThat(match.values()).containsExactly("long");
+        assertThat(trie.longestMatch("newark", 0)).isNull();
+        assertThat(trie.longestMatch("new yorker", 0).values()).containsExactly("short");
+    }
+
+    @Test
+    void returnsNullWithoutAMatch() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("berlin", "DE");
+
+        assertThat(trie.longestMatch("bern", 0)).isNull();
+        assertThat(trie.longestMatch("", 0)).isNull();
+    }
+}
@@ -0,0 +1,61 @@
+package com.zbib.hiresync.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @Test
+    void idsIncreaseStrictlyEvenWithinOneMillisecond() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(UuidV7.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            // PostgreSQL compares uuids as unsigned bytes, Java as signed longs; both must agree on the order
+            assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+            assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(), ids.get(i - 1).getMostSignificantBits()))
+                    .isPositive();
+        }
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 8).parallel().forEach(thread -> {
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(UuidV7.next());
+            }
+        });
+
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    void carriesVersionVariantAndCreationTime() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        // may run a few milliseconds ahead of the clock after other tests exhausted the per-millisecond sequence
+        assertThat(UuidV7.timestamp(id)).isBetween(before, after + 1_000);
+    }
+
+    @Test
+    void rejectsOtherVersions() {
+        assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
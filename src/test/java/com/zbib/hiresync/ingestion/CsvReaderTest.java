@@ -0,0 +1,66 @@
+package com.zbib.hiresync.ingestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void splitsPlainRecordsOnCommas() throws Exception {
+        assertThat(records("email,first_name\nada@example.com,Ada\n"))
+                .containsExactly(List.of("email", "first_name"), List.of("ada@example.com", "Ada"));
+    }
+
+    @Test
+    void quotedFieldsKeepCommasQuotesAndLineBreaks() throws Exception {
+        assertThat(records("\"Lovelace, Ada\",\"said \"\"hi\"\"\",\"line one\r\nline two\"\n"))
+                .containsExactly(List.of("Lovelace, Ada", "said \"hi\"", "line one\r\nline two"));
+    }
+
+    @Test
+    void keepsEmptyFieldsAndAcceptsAnyLineEnding() throws Exception {
+        assertThat(records("a,,\r\n,b\rc,\"\""))
+                .containsExactly(List.of("a", "", ""), List.of("", "b"), List.of("c", ""));
+    }
+
+    @Test
+    void skipsBlankLinesAndReportsWhereEachRecordStarted() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("header\n\n\"multi\nline\"\n\nlast"));
+
+        assertThat(reader.readRecord()).containsExactly("header");
+        assertThat(reader.recordLine()).isEqualTo(1);
+        assertThat(reader.readRecord()).containsExactly("multi\nline");
+        assertThat(reader.recordLine()).isEqualTo(3);
+        assertThat(reader.readRecord()).containsExactly("last");
+        assertThat(reader.recordLine()).isEqualTo(6);
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void quoteInsideAnUnquotedFieldIsLiteral() throws Exception {
+        assertThat(records("5\" screen,ok\n")).containsExactly(List.of("5\" screen", "ok"));
+    }
+
+    @Test
+    void unterminatedQuotedFieldFails() {
+        assertThatThrownBy(() -> records("ok\n\"never closed,\nstill open"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    private static List<List<String>> records(String csv) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        for (List<String> record = reader.readRecord(); record != null; record = reader.readRecord()) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,94 @@
+package com.zbib.hiresync.ingestion;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sealedSegmentReturnsAppendedRecordsInOrder() throws Exception {
+        try (WriteAheadLog log = new WriteAheadLog(directory, false)) {
+            log.append(bytes("first"));
+            log.append(bytes("second"));
+
+            List<Path> segments = log.seal();
+
+            assertThat(segments).hasSize(1);
+            assertThat(strings(log.read(segments.get(0)))).containsExactly("first", "second");
+        }
+    }
+
+    @Test
+    void tornLastRecordIsSkipped() throws Exception {
+        try (WriteAheadLog log = new WriteAheadLog(directory, true)) {
+            log.append(bytes("complete"));
+            Path segment = log.seal().get(0);
+            Files.write(segment, bytes("{\"torn"), StandardOpenOption.APPEND);
+
+            assertThat(strings(log.read(segment))).containsExactly("complete");
+        }
+    }
+
+    @Test
+    void recordsAppendedAfterSealGoToANewSegment() throws Exception {
+        try (WriteAheadLog log = new WriteAheadLog(directory, false)) {
+            log.append(bytes("first"));
+            Path sealed = log.seal().get(0);
+            log.append(bytes("second"));
+
+            assertThat(log.seal()).hasSize(2).first().isEqualTo(sealed);
+        }
+    }
+
+    @Test
+    void emptyOpenSegmentIsNotReturned() throws Exception {
+        try (WriteAheadLog log = new WriteAheadLog(directory, false)) {
+            log.append(bytes("first"));
+            log.delete(log.seal().get(0));
+
+            assertThat(log.seal()).isEmpty();
+        }
+    }
+
+    @Test
+    void segmentsLeftByAPreviousProcessAreFoundAgain() throws Exception {
+        try (WriteAheadLog crashed = new WriteAheadLog(directory, true)) {
+            crashed.append(bytes("left behind"));
+        }
+
+        try (WriteAheadLog log = new WriteAheadLog(directory, true)) {
+            List<Path> segments = log.seal();
+
+            assertThat(segments).hasSize(1);
+            assertThat(strings(log.read(segments.get(0)))).containsExactly("left behind");
+        }
+    }
+
+    @Test
+    void rejectsRecordsWithLineBreaks() throws Exception {
+        try (WriteAheadLog log = new WriteAheadLog(directory, false)) {
+            assertThatThrownBy(() -> log.append(bytes("two\nlines")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> strings(List<byte[]> records) {
+        return records.stream().map(record -> new String(record, StandardCharsets.UTF_8)).toList();
+    }
+}
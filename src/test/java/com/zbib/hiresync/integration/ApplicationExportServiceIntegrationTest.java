@@ -0,0 +1,189 @@
+package com.zbib.hiresync.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zbib.hiresync.dto.builder.ApplicationBuilder;
+import com.zbib.hiresync.dto.filter.ApplicationFilter;
+import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.FileFormat;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.exception.AuthException;
+import com.zbib.hiresync.ingestion.CsvReader;
+import com.zbib.hiresync.repository.ApplicationRepository;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.UserRepository;
+import com.zbib.hiresync.service.ApplicationExportService;
+import com.zbib.hiresync.service.ApplicationSkillIndexService;
+import com.zbib.hiresync.service.SkillExtractionService;
+import com.zbib.hiresync.service.UserService;
+import com.zbib.hiresync.specification.ApplicationSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "hiresync.applications.export.fetch-size=2"
+})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ApplicationExportService.class, ApplicationBuilder.class, ApplicationSpecification.class,
+        SkillExtractionService.class, ApplicationSkillIndexService.class})
+class ApplicationExportServiceIntegrationTest {
+
+    private static final String NOTES = "Strong \"systems\" background,\nfollow up";
+
+    @MockitoBean
+    private UserService userService;
+
+    @Autowired
+    private ApplicationExportService applicationExportService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String username;
+    private UUID jobId;
+
+    @BeforeEach
+    void createApplications() {
+        username = UUID.randomUUID() + "@example.com";
+        User owner = userRepository.save(User.builder()
+                .email(username)
+                .password("secret")
+                .firstName("Owner")
+                .lastName("User")
+                .role("USER")
+                .build());
+        when(userService.findByUsernameOrThrow(username)).thenReturn(owner);
+        Job job = jobRepository.save(Job.builder()
+                .title("Backend Engineer")
+                .description("Build services")
+                .requirements("Java")
+                .companyName("Acme")
+                .user(owner)
+                .employmentType(EmploymentType.FULL_TIME)
+                .workplaceType(WorkplaceType.REMOTE)
+                .active(true)
+                .build());
+        jobId = job.getId();
+
+        LocalDateTime appliedAt = LocalDateTime.of(2024, 3, 1, 9, 0);
+        applicationRepository.insertAll(List.of(
+                application(job, "Ada", "=cmd|' /C calc'!A0", ApplicationStatus.SHORTLISTED, NOTES, appliedAt),
+                application(job, "Grace", "Hopper", ApplicationStatus.SUBMITTED, null, appliedAt.plusHours(1)),
+                application(job, "Alan", "Turing", ApplicationStatus.REJECTED, null, appliedAt.plusHours(2))));
+    }
+
+    @Test
+    void csvHasAHeaderAndOneQuotedRecordPerApplicationOldestFirst() throws IOException {
+        String csv = export(null, FileFormat.CSV);
+
+        assertThat(csv).startsWith("id,first_name,last_name,").endsWith("\r\n");
+        List<List<String>> records = records(csv);
+        assertThat(records).hasSize(4);
+        assertThat(records.get(0)).hasSize(12);
+        assertThat(records.subList(1, 4)).extracting(record -> record.get(1)).containsExactly("Ada", "Grace", "Alan");
+        assertThat(records.get(1)).hasSize(12);
+        assertThat(records.get(1).get(2)).isEqualTo("'=cmd|' /C calc'!A0");
+        assertThat(records.get(1).get(6)).isEqualTo("SHORTLISTED");
+        assertThat(records.get(1).get(9)).isEqualTo(NOTES);
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLineAndHonoursTheFilter() throws IOException {
+        String ndjson = export(ApplicationFilter.builder().status(ApplicationStatus.SUBMITTED).build(), FileFormat.NDJSON);
+
+        assertThat(ndjson).endsWith("\n");
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(1);
+        JsonNode grace = objectMapper.readTree(lines[0]);
+        assertThat(grace.get("firstName").asText()).isEqualTo("Grace");
+        assertThat(grace.get("status").asText()).isEqualTo("SUBMITTED");
+    }
+
+    @Test
+    void ndjsonOfNoMatchesIsEmpty() throws IOException {
+        assertThat(export(ApplicationFilter.builder().status(ApplicationStatus.WITHDRAWN).build(), FileFormat.NDJSON)).isEmpty();
+    }
+
+    @Test
+    void onlyTheJobOwnerCanExport() {
+        User intruder = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("secret")
+                .firstName("Other")
+                .lastName("User")
+                .role("USER")
+                .build());
+        when(userService.findByUsernameOrThrow(intruder.getEmail())).thenReturn(intruder);
+
+        assertThatThrownBy(() -> applicationExportService.export(jobId, null, FileFormat.CSV, intruder.getEmail()))
+                .isInstanceOf(AuthException.class);
+    }
+
+    private String export(ApplicationFilter filter, FileFormat format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        applicationExportService.export(jobId, filter, format, username).writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static List<List<String>> records(String csv) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        for (List<String> record = reader.readRecord(); record != null; record = reader.readRecord()) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static Application application(Job job, String firstName, String lastName, ApplicationStatus status,
+                                           String notes, LocalDateTime appliedAt) {
+        return Application.builder()
+                .id(UUID.randomUUID())
+                .job(job)
+                .firstName(firstName)
+                .lastName(lastName)
+                .applicantEmail(firstName.toLowerCase() + "@example.com")
+                .status(status)
+                .notes(notes)
+                .createdAt(appliedAt)
+                .updatedAt(appliedAt)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.zbib.hiresync.integration;
+
+import com.zbib.hiresync.dto.builder.ApplicationBuilder;
+import com.zbib.hiresync.dto.response.ApplicationImportResponse;
+import com.zbib.hiresync.dto.response.ApplicationImportResponse.RowError;
+import com.zbib.hiresync.dto.response.ApplicationStatsResponse;
+import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.FileFormat;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.repository.ApplicationRepository;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.UserRepository;
+import com.zbib.hiresync.service.ApplicationImportService;
+import com.zbib.hiresync.service.ApplicationStatsService;
+import com.zbib.hiresync.service.JobApplicationCounterService;
+import com.zbib.hiresync.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "hiresync.applications.import.batch-size=3"
+})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({ApplicationImportService.class, ApplicationBuilder.class, JobApplicationCounterService.class,
+        ApplicationStatsService.class})
+class ApplicationImportServiceIntegrationTest {
+
+    @MockitoBean
+    private UserService userService;
+
+    @Autowired
+    private ApplicationImportService applicationImportService;
+
+    @Autowired
+    private ApplicationStatsService applicationStatsService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String username;
+    private UUID jobId;
+
+    @BeforeEach
+    void createJob() {
+        username = UUID.randomUUID() + "@example.com";
+        User owner = userRepository.save(User.builder()
+                .email(username)
+                .password("secret")
+                .firstName("Owner")
+                .lastName("User")
+                .role("USER")
+                .build());
+        when(userService.findByUsernameOrThrow(username)).thenReturn(owner);
+        jobId = jobRepository.save(Job.builder()
+                .title("Backend Engineer")
+                .description("Build services")
+                .requirements("Java")
+                .companyName("Acme")
+                .user(owner)
+                .employmentType(EmploymentType.FULL_TIME)
+                .workplaceType(WorkplaceType.REMOTE)
+                .active(true)
+                .build()).getId();
+    }
+
+    @Test
+    void importsRowsAndReportsDuplicatesAndRejections() {
+        importCsv("first_name,last_name,email\nGrace,Hopper,grace@example.com\n");
+
+        ApplicationImportResponse response = importCsv("""
+                First Name,Last Name,Email,Resume URL,Status,Applied At
+                Ada,Lovelace,ada@example.com,https://example.com/ada.pdf,interviewed,2024-01-15
+                Ada,Lovelace,ada@example.com,,,
+                Grace,Hopper,grace@example.com,,,
+                X,Short,not-an-email,,,
+                Alan,Turing,alan@example.com,,HIRED,
+                Alan,Turing,alan.turing@example.com,,,yesterday
+                Linus,Torvalds,linus@example.com,,REJECTED,2024-02-01T10:00:00
+                """);
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getDuplicates()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactly(5L, 6L, 7L);
+        assertThat(response.getErrors().get(1).getMessage()).isEqualTo("Invalid status or application date");
+
+        Application ada = applicationRepository.findAll().stream()
+                .filter(application -> application.getJob().getId().equals(jobId)
+                        && application.getApplicantEmail().equals("ada@example.com"))
+                .findFirst().orElseThrow();
+        assertThat(ada.getStatus()).isEqualTo(ApplicationStatus.INTERVIEWED);
+        assertThat(ada.getResumeUrl()).isEqualTo("https://example.com/ada.pdf");
+        assertThat(ada.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 15, 0, 0));
+    }
+
+    @Test
+    void importedStatusesAreCountedInTheStats() {
+        importCsv("""
+                first_name,last_name,email,status
+                Ada,Lovelace,ada@example.com,INTERVIEWED
+                Grace,Hopper,grace@example.com,
+                Linus,Torvalds,linus@example.com,REJECTED
+                Alan,Turing,alan@example.com,REJECTED
+                """);
+
+        ApplicationStatsResponse stats = applicationStatsService.getStats(username);
+
+        assertThat(stats.getTotalApplications()).isEqualTo(4);
+        assertThat(stats.getApplicationsByStatus()).containsAllEntriesOf(Map.of(
+                ApplicationStatus.SUBMITTED, 1L,
+                ApplicationStatus.INTERVIEWED, 1L,
+                ApplicationStatus.REJECTED, 2L,
+                ApplicationStatus.OFFER_EXTENDED, 0L));
+    }
+
+    @Test
+    void malformedNdjsonLinesAreRejected() {
+        ApplicationImportResponse response = applicationImportService.importApplications(jobId, file("""
+                {"firstName":"Ada","lastName":"Lovelace","email":"ada@example.com"}
+                {"firstName":
+                """), FileFormat.NDJSON, username);
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactly(2L);
+    }
+
+    private ApplicationImportResponse importCsv(String csv) {
+        return applicationImportService.importApplications(jobId, file(csv), FileFormat.CSV, username);
+    }
+
+    private static MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", "applications", "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,201 @@
+package com.zbib.hiresync.integration;
+
+import com.zbib.hiresync.dto.builder.ApplicationBuilder;
+import com.zbib.hiresync.dto.request.CreateApplicationRequest;
+import com.zbib.hiresync.dto.response.ApplicationSubmissionResponse;
+import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.SubmissionStatus;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.exception.ApplicationException;
+import com.zbib.hiresync.exception.JobException;
+import com.zbib.hiresync.repository.ApplicationRepository;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.UserRepository;
+import com.zbib.hiresync.service.ApplicationIngestionService;
+import com.zbib.hiresync.service.JobApplicationCounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ApplicationIngestionService.class, ApplicationBuilder.class, JobApplicationCounterService.class})
+class ApplicationIngestionServiceIntegrationTest {
+
+    @TempDir
+    static Path walDirectory;
+
+    @DynamicPropertySource
+    static void writeBehind(DynamicPropertyRegistry registry) {
+        registry.add("hiresync.applications.ingestion.write-behind", () -> "true");
+        registry.add("hiresync.applications.ingestion.fsync", () -> "false");
+        registry.add("hiresync.applications.ingestion.wal-dir", walDirectory::toString);
+    }
+
+    @Autowired
+    private ApplicationIngestionService applicationIngestionService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void createOwner() {
+        owner = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("secret")
+                .firstName("Owner")
+                .lastName("User")
+                .role("USER")
+                .build());
+    }
+
+    @Test
+    void drainedSubmissionIsStored() {
+        UUID jobId = createJob(true);
+
+        UUID trackingId = applicationIngestionService.submit(jobId, request("jane@example.com"), null).getTrackingId();
+        applicationIngestionService.drain();
+
+        assertThat(status(jobId, trackingId).getStatus()).isEqualTo(SubmissionStatus.CREATED);
+        assertThat(applicationRepository.findById(trackingId).orElseThrow().getResumeUrl())
+                .isEqualTo("https://example.com/resume.pdf");
+    }
+
+    @Test
+    void secondApplicationToTheSameJobIsRejected() {
+        UUID jobId = createJob(true);
+        UUID first = applicationIngestionService.submit(jobId, request("jane@example.com"), null).getTrackingId();
+        UUID second = applicationIngestionService.submit(jobId, request("jane@example.com"), null).getTrackingId();
+
+        applicationIngestionService.drain();
+
+        assertThat(status(jobId, first).getStatus()).isEqualTo(SubmissionStatus.CREATED);
+        assertThat(status(jobId, second).getStatus()).isEqualTo(SubmissionStatus.REJECTED);
+        assertThat(status(jobId, second).getMessage()).isEqualTo("You have already applied to this job");
+    }
+
+    @Test
+    void replayedSubmissionIsReportedAsCreated() {
+        UUID jobId = createJob(true);
+        UUID trackingId = applicationIngestionService.submit(jobId, request("jane@example.com"), "key-1").getTrackingId();
+        applicationIngestionService.drain();
+
+        applicationIngestionService.submit(jobId, request("jane@example.com"), "key-1");
+        applicationIngestionService.drain();
+
+        assertThat(status(jobId, trackingId).getStatus()).isEqualTo(SubmissionStatus.CREATED);
+    }
+
+    @Test
+    void submissionToMissingOrInactiveJobIsRefusedUpFront() {
+        UUID inactiveJobId = createJob(false);
+
+        assertThatThrownBy(() -> applicationIngestionService.submit(UUID.randomUUID(), request("jane@example.com"), null))
+                .isInstanceOf(JobException.class)
+                .hasMessage("Job not found");
+        assertThatThrownBy(() -> applicationIngestionService.submit(inactiveJobId, request("jane@example.com"), null))
+                .isInstanceOf(JobException.class)
+                .hasMessage("This job listing is no longer active");
+    }
+
+    @Test
+    void submissionToJobDeactivatedBeforeDrainIsRejected() {
+        UUID jobId = createJob(true);
+        UUID trackingId = applicationIngestionService.submit(jobId, request("jane@example.com"), null).getTrackingId();
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        job.setActive(false);
+        jobRepository.save(job);
+
+        applicationIngestionService.drain();
+
+        assertThat(status(jobId, trackingId).getStatus()).isEqualTo(SubmissionStatus.REJECTED);
+        assertThat(applicationRepository.existsById(trackingId)).isFalse();
+    }
+
+    @Test
+    void submissionIsNotFoundUnderAnotherJob() {
+        UUID jobId = createJob(true);
+        UUID otherJobId = createJob(true);
+        UUID trackingId = applicationIngestionService.submit(jobId, request("jane@example.com"), null).getTrackingId();
+
+        assertThatThrownBy(() -> status(otherJobId, trackingId)).isInstanceOf(ApplicationException.class);
+    }
+
+    @Test
+    void storedApplicationIsNotFoundUnderAnotherJob() {
+        UUID jobId = createJob(true);
+        UUID otherJobId = createJob(true);
+        // stored without passing through this node's outcomes, as on another node
+        UUID applicationId = applicationRepository.save(Application.builder()
+                .job(jobRepository.getReferenceById(jobId))
+                .firstName("Jane")
+                .lastName("Doe")
+                .applicantEmail("jane@example.com")
+                .build()).getId();
+
+        assertThat(status(jobId, applicationId).getStatus()).isEqualTo(SubmissionStatus.CREATED);
+        assertThatThrownBy(() -> status(otherJobId, applicationId)).isInstanceOf(ApplicationException.class);
+    }
+
+    @Test
+    void unknownTrackingIdIsPending() {
+        UUID jobId = createJob(true);
+
+        assertThat(status(jobId, UUID.randomUUID()).getStatus()).isEqualTo(SubmissionStatus.PENDING);
+    }
+
+    private ApplicationSubmissionResponse status(UUID jobId, UUID trackingId) {
+        return applicationIngestionService.getSubmission(jobId, trackingId);
+    }
+
+    private UUID createJob(boolean active) {
+        return jobRepository.save(Job.builder()
+                .title("Backend Engineer")
+                .description("Build services")
+                .requirements("Java")
+                .companyName("Acme")
+                .user(owner)
+                .employmentType(EmploymentType.FULL_TIME)
+                .workplaceType(WorkplaceType.REMOTE)
+                .active(active)
+                .build()).getId();
+    }
+
+    private static CreateApplicationRequest request(String email) {
+        return CreateApplicationRequest.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .email(email)
+                .resumeUrl("https://example.com/resume.pdf")
+                .build();
+    }
+}
@@ -0,0 +1,383 @@
+package com.zbib.hiresync.integration;
+
+import com.zbib.hiresync.dto.builder.ApplicationBuilder;
+import com.zbib.hiresync.dto.filter.ApplicationFilter;
+import com.zbib.hiresync.dto.request.BulkUpdateApplicationStatusRequest;
+import com.zbib.hiresync.dto.request.CreateApplicationRequest;
+import com.zbib.hiresync.dto.request.ToggleApplicationStatusRequest;
+import com.zbib.hiresync.dto.response.ApplicationResponse;
+import com.zbib.hiresync.dto.response.ApplicationStatusHistoryResponse;
+import com.zbib.hiresync.dto.response.BulkApplicationStatusResponse;
+import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.ApplicationStatusHistory;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.enums.BulkUpdateOutcome;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.SkillMatchMode;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.exception.ApplicationException;
+import com.zbib.hiresync.exception.AuthException;
+import com.zbib.hiresync.exception.ValidationException;
+import com.zbib.hiresync.repository.ApplicationRepository;
+import com.zbib.hiresync.repository.ApplicationRepositoryImpl;
+import com.zbib.hiresync.repository.ApplicationStatusHistoryRepository;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.UserRepository;
+import com.zbib.hiresync.service.ApplicationMatchService;
+import com.zbib.hiresync.service.ApplicationService;
+import com.zbib.hiresync.service.ApplicationSkillIndexService;
+import com.zbib.hiresync.service.ApplicationStatsService;
+import com.zbib.hiresync.service.GeocodingService;
+import com.zbib.hiresync.service.JobApplicationCounterService;
+import com.zbib.hiresync.service.JobSearchIndexService;
+import com.zbib.hiresync.service.PdfParsingService;
+import com.zbib.hiresync.service.SkillExtractionService;
+import com.zbib.hiresync.service.UserService;
+import com.zbib.hiresync.specification.ApplicationSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ApplicationService.class, ApplicationBuilder.class, ApplicationSpecification.class, SkillExtractionService.class,
+        ApplicationSkillIndexService.class, JobApplicationCounterService.class, ApplicationStatsService.class})
+class ApplicationServiceIntegrationTest {
+
+    @MockitoBean
+    private JobSearchIndexService jobSearchIndexService;
+
+    @MockitoBean
+    private GeocodingService geocodingService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private PdfParsingService pdfParsingService;
+
+    @MockitoBean
+    private ApplicationMatchService applicationMatchService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @MockitoSpyBean
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationStatusHistoryRepository applicationStatusHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationSpecification applicationSpecification;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private UUID jobId;
+
+    @BeforeEach
+    void createJob() {
+        owner = saveUser();
+        jobId = saveJob(owner);
+    }
+
+    @Test
+    void retryWithSameIdempotencyKeyReturnsOriginalApplication() {
+        ApplicationResponse original = applicationService.createApplication(jobId, request("jane@example.com"), "key-1");
+
+        ApplicationResponse retried = applicationService.createApplication(jobId, request("jane@example.com"), "key-1");
+
+        assertThat(retried.getId()).isEqualTo(original.getId());
+        assertThat(applicationRepository.findApplicantEmails(jobId, List.of("jane@example.com"))).hasSize(1);
+    }
+
+    @Test
+    void idempotencyKeyReusedForAnotherApplicantIsRejected() {
+        applicationService.createApplication(jobId, request("jane@example.com"), "key-2");
+
+        assertThatThrownBy(() -> applicationService.createApplication(jobId, request("john@example.com"), "key-2"))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+    }
+
+    @Test
+    void secondApplicationWithoutKeyIsAConflict() {
+        applicationService.createApplication(jobId, request("jane@example.com"), null);
+
+        assertThatThrownBy(() -> applicationService.createApplication(jobId, request("jane@example.com"), null))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void secondApplicationWithNewKeyIsAConflict() {
+        applicationService.createApplication(jobId, request("jane@example.com"), "key-3");
+
+        assertThatThrownBy(() -> applicationService.createApplication(jobId, request("jane@example.com"), "key-4"))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void skillsFilterMatchesThroughTheBitmapIndex() {
+        UUID javaSpring = withSkills(applicationService.createApplication(jobId, request("ada@example.com"), null), "Java", "Spring");
+        UUID javaOnly = withSkills(applicationService.createApplication(jobId, request("alan@example.com"), null), "Java");
+        withSkills(applicationService.createApplication(jobId, request("grace@example.com"), null), "Python");
+
+        assertThat(filterBySkills(SkillMatchMode.ALL, "java", "spring")).containsExactly(javaSpring);
+        assertThat(filterBySkills(SkillMatchMode.ANY, "Java")).containsExactlyInAnyOrder(javaSpring, javaOnly);
+        assertThat(filterBySkills(SkillMatchMode.ALL, "Rust")).isEmpty();
+    }
+
+    @Test
+    void searchNeedsEveryTermSomewhereAcrossNameEmailNotesAndSummary() {
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        UUID ada = UUID.randomUUID();
+        UUID grace = UUID.randomUUID();
+        UUID percent = UUID.randomUUID();
+        UUID underscore = UUID.randomUUID();
+        applicationRepository.insertAll(List.of(
+                searchable(job, ada, "Ada", "ada@example.com", "Strong Kotlin", "Built compilers"),
+                searchable(job, grace, "Grace", "grace@navy.example.com", null, "COBOL and compilers"),
+                searchable(job, percent, "Alan", "alan@example.com", "Wants 100% remote", null),
+                searchable(job, underscore, "Linus", "linus_t@example.com", null, null)));
+
+        assertThat(search("ada kotlin COMPILERS")).containsExactly(ada);
+        assertThat(search("compilers")).containsExactlyInAnyOrder(ada, grace);
+        assertThat(search("  navy   cobol ")).containsExactly(grace);
+        assertThat(search("grace kotlin")).isEmpty();
+        assertThat(search("100%")).containsExactly(percent);
+        assertThat(search("%")).containsExactly(percent);
+        assertThat(search("a_a")).isEmpty();
+        assertThat(search("_")).containsExactly(underscore);
+    }
+
+    @Test
+    void bulkUpdateReportsAnOutcomePerApplication() {
+        UUID updated = apply("ada@example.com");
+        UUID conflicting = apply("alan@example.com");
+        UUID unchanged = apply("grace@example.com");
+        changeStatus(unchanged, ApplicationStatus.SHORTLISTED, null);
+        UUID missing = UUID.randomUUID();
+        UUID foreign = applicationService.createApplication(saveJob(saveUser()), request("linus@example.com"), null).getId();
+        // another request moves this one between the ownership check and the UPDATE
+        doAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE applications SET status = 'REJECTED' WHERE id = ?", conflicting);
+            return new ApplicationRepositoryImpl(jdbcTemplate).updateStatuses(invocation.getArgument(0));
+        }).when(applicationRepository).updateStatuses(any());
+
+        BulkApplicationStatusResponse response = bulkUpdate(BulkUpdateApplicationStatusRequest.builder()
+                .applicationIds(List.of(updated, conflicting, unchanged, missing, foreign))
+                .status(ApplicationStatus.SHORTLISTED)
+                .build());
+
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(BulkApplicationStatusResponse.Item::getApplicationId, BulkApplicationStatusResponse.Item::getOutcome)
+                .containsExactly(
+                        tuple(updated, BulkUpdateOutcome.UPDATED),
+                        tuple(conflicting, BulkUpdateOutcome.CONFLICT),
+                        tuple(unchanged, BulkUpdateOutcome.UNCHANGED),
+                        tuple(missing, BulkUpdateOutcome.NOT_FOUND),
+                        tuple(foreign, BulkUpdateOutcome.FORBIDDEN));
+        assertThat(applicationRepository.findById(updated).orElseThrow().getStatus()).isEqualTo(ApplicationStatus.SHORTLISTED);
+        assertThat(applicationRepository.findById(conflicting).orElseThrow().getStatus()).isEqualTo(ApplicationStatus.REJECTED);
+        assertThat(history(updated)).hasSize(1);
+        assertThat(history(conflicting)).isEmpty();
+        assertThat(history(unchanged)).hasSize(1);
+    }
+
+    @Test
+    void bulkUpdateByFilterChangesOnlyMatchingApplications() {
+        UUID submitted = apply("ada@example.com");
+        UUID rejected = apply("alan@example.com");
+        changeStatus(rejected, ApplicationStatus.REJECTED, null);
+
+        BulkApplicationStatusResponse response = bulkUpdate(BulkUpdateApplicationStatusRequest.builder()
+                .filter(ApplicationFilter.builder().jobId(jobId).status(ApplicationStatus.SUBMITTED).build())
+                .status(ApplicationStatus.UNDER_REVIEW)
+                .build());
+
+        assertThat(response.getResults()).extracting(BulkApplicationStatusResponse.Item::getApplicationId).containsExactly(submitted);
+        assertThat(applicationRepository.findById(rejected).orElseThrow().getStatus()).isEqualTo(ApplicationStatus.REJECTED);
+    }
+
+    @Test
+    void bulkUpdateByFilterRefusesMoreThanTheCap() {
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        applicationRepository.insertAll(IntStream.rangeClosed(0, 1000)
+                .mapToObj(i -> Application.builder()
+                        .id(UUID.randomUUID())
+                        .job(job)
+                        .firstName("Jane")
+                        .lastName("Doe")
+                        .applicantEmail("applicant" + i + "@example.com")
+                        .createdAt(LocalDateTime.now())
+                        .updatedAt(LocalDateTime.now())
+                        .build())
+                .toList());
+
+        assertThatThrownBy(() -> bulkUpdate(BulkUpdateApplicationStatusRequest.builder()
+                .filter(ApplicationFilter.builder().jobId(jobId).build())
+                .status(ApplicationStatus.REJECTED)
+                .build()))
+                .isInstanceOf(ValidationException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM applications WHERE job_id = ? AND status = 'REJECTED'",
+                Long.class, jobId)).isZero();
+    }
+
+    @Test
+    void statusChangeToTheSameStatusRecordsHistoryOnlyWithNotes() {
+        UUID applicationId = apply("ada@example.com");
+
+        changeStatus(applicationId, ApplicationStatus.SUBMITTED, null);
+        assertThat(history(applicationId)).isEmpty();
+
+        changeStatus(applicationId, ApplicationStatus.SUBMITTED, "Called, no answer");
+        assertThat(history(applicationId)).extracting(ApplicationStatusHistory::getNotes).containsExactly("Called, no answer");
+    }
+
+    @Test
+    void statusHistoryIsVisibleToTheJobOwnerOnly() {
+        UUID applicationId = apply("ada@example.com");
+        changeStatus(applicationId, ApplicationStatus.UNDER_REVIEW, null);
+        User intruder = saveUser();
+        when(userService.findByUsernameOrThrow(intruder.getEmail())).thenReturn(intruder);
+
+        assertThat(applicationService.getStatusHistory(applicationId, Pageable.unpaged(), owner.getEmail()))
+                .extracting(ApplicationStatusHistoryResponse::getToStatus)
+                .containsExactly(ApplicationStatus.UNDER_REVIEW);
+        assertThatThrownBy(() -> applicationService.getStatusHistory(applicationId, Pageable.unpaged(), intruder.getEmail()))
+                .isInstanceOf(AuthException.class);
+    }
+
+    private UUID apply(String email) {
+        return applicationService.createApplication(jobId, request(email), null).getId();
+    }
+
+    private void changeStatus(UUID applicationId, ApplicationStatus status, String notes) {
+        when(userService.findByUsernameOrThrow(owner.getEmail())).thenReturn(owner);
+        applicationService.toggleApplicationStatus(applicationId, ToggleApplicationStatusRequest.builder()
+                .status(status)
+                .notes(notes)
+                .build(), owner.getEmail());
+    }
+
+    private BulkApplicationStatusResponse bulkUpdate(BulkUpdateApplicationStatusRequest request) {
+        when(userService.findByUsernameOrThrow(owner.getEmail())).thenReturn(owner);
+        return applicationService.bulkUpdateStatus(request, owner.getEmail());
+    }
+
+    private List<ApplicationStatusHistory> history(UUID applicationId) {
+        return applicationStatusHistoryRepository.findByApplicationIdOrderByCreatedAtDesc(applicationId, Pageable.unpaged()).getContent();
+    }
+
+    private User saveUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("secret")
+                .firstName("Owner")
+                .lastName("User")
+                .role("USER")
+                .build());
+    }
+
+    private UUID saveJob(User user) {
+        return jobRepository.save(Job.builder()
+                .title("Backend Engineer")
+                .description("Build services")
+                .requirements("Java")
+                .companyName("Acme")
+                .user(user)
+                .employmentType(EmploymentType.FULL_TIME)
+                .workplaceType(WorkplaceType.REMOTE)
+                .active(true)
+                .build()).getId();
+    }
+
+    private UUID withSkills(ApplicationResponse response, String... skills) {
+        Application application = applicationRepository.findById(response.getId()).orElseThrow();
+        application.setSkills(new HashSet<>(Set.of(skills)));
+        applicationRepository.save(application);
+        return application.getId();
+    }
+
+    private List<UUID> filterBySkills(SkillMatchMode mode, String... skills) {
+        ApplicationFilter filter = ApplicationFilter.builder()
+                .jobId(jobId)
+                .skills(Set.of(skills))
+                .skillMatch(mode)
+                .build();
+        return applicationRepository.findAll(applicationSpecification.buildSpecification(filter)).stream()
+                .map(Application::getId)
+                .toList();
+    }
+
+    private List<UUID> search(String query) {
+        ApplicationFilter filter = ApplicationFilter.builder()
+                .jobId(jobId)
+                .searchQuery(query)
+                .build();
+        return applicationRepository.findAll(applicationSpecification.buildSpecification(filter)).stream()
+                .map(Application::getId)
+                .toList();
+    }
+
+    private static Application searchable(Job job, UUID id, String firstName, String email, String notes, String summary) {
+        return Application.builder()
+                .id(id)
+                .job(job)
+                .firstName(firstName)
+                .lastName("Doe")
+                .applicantEmail(email)
+                .notes(notes)
+                .summary(summary)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static CreateApplicationRequest request(String email) {
+        return CreateApplicationRequest.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .email(email)
+                .resumeUrl("https://example.com/resume.pdf")
+                .build();
+    }
+}
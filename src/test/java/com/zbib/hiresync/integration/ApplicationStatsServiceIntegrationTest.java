@@ -0,0 +1,161 @@
+package com.zbib.hiresync.integration;
+
+import com.zbib.hiresync.entity.Application;
+import com.zbib.hiresync.entity.ApplicationStatusCount;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.ApplicationStatus;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.repository.ApplicationRepository;
+import com.zbib.hiresync.repository.ApplicationStatusCountRepository;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.UserRepository;
+import com.zbib.hiresync.service.ApplicationStatsService;
+import com.zbib.hiresync.service.ApplicationStatsService.StatusTransition;
+import com.zbib.hiresync.service.JobApplicationCounterService;
+import com.zbib.hiresync.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ApplicationStatsService.class, JobApplicationCounterService.class})
+class ApplicationStatsServiceIntegrationTest {
+
+    @MockitoBean
+    private UserService userService;
+
+    @Autowired
+    private ApplicationStatsService applicationStatsService;
+
+    @Autowired
+    private JobApplicationCounterService jobApplicationCounterService;
+
+    @Autowired
+    private ApplicationStatusCountRepository applicationStatusCountRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private Job job;
+
+    @BeforeEach
+    void createJob() {
+        owner = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("secret")
+                .firstName("Owner")
+                .lastName("User")
+                .role("USER")
+                .build());
+        when(userService.findByUsernameOrThrow(owner.getEmail())).thenReturn(owner);
+        job = jobRepository.save(Job.builder()
+                .title("Backend Engineer")
+                .description("Build services")
+                .requirements("Java")
+                .companyName("Acme")
+                .user(owner)
+                .employmentType(EmploymentType.FULL_TIME)
+                .workplaceType(WorkplaceType.REMOTE)
+                .active(true)
+                .build());
+    }
+
+    @Test
+    void submittedIsTheTotalMinusTheOtherStatuses() {
+        jobApplicationCounterService.add(job.getId(), 5);
+        record(new StatusTransition(job.getId(), ApplicationStatus.SUBMITTED, ApplicationStatus.UNDER_REVIEW),
+                new StatusTransition(job.getId(), ApplicationStatus.SUBMITTED, ApplicationStatus.UNDER_REVIEW),
+                new StatusTransition(job.getId(), ApplicationStatus.SUBMITTED, ApplicationStatus.REJECTED),
+                new StatusTransition(job.getId(), ApplicationStatus.UNDER_REVIEW, ApplicationStatus.SUBMITTED));
+
+        Map<ApplicationStatus, Long> byStatus = applicationStatsService.getStats(owner.getEmail()).getApplicationsByStatus();
+
+        assertThat(byStatus).containsEntry(ApplicationStatus.SUBMITTED, 3L)
+                .containsEntry(ApplicationStatus.UNDER_REVIEW, 1L)
+                .containsEntry(ApplicationStatus.REJECTED, 1L)
+                .containsEntry(ApplicationStatus.INTERVIEWED, 0L);
+    }
+
+    @Test
+    void adjustingCreatesMissingRowsAndUnchangedTransitionsWriteNothing() {
+        assertThat(storedCounts()).isEmpty();
+
+        record(new StatusTransition(job.getId(), ApplicationStatus.SUBMITTED, ApplicationStatus.SHORTLISTED),
+                new StatusTransition(job.getId(), ApplicationStatus.INTERVIEWED, ApplicationStatus.INTERVIEWED));
+        record(new StatusTransition(job.getId(), ApplicationStatus.SHORTLISTED, ApplicationStatus.OFFER_EXTENDED));
+
+        assertThat(storedCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                ApplicationStatus.SHORTLISTED, 0L,
+                ApplicationStatus.OFFER_EXTENDED, 1L));
+    }
+
+    @Test
+    void reconciliationRepairsDrift() {
+        save("ada@example.com", ApplicationStatus.INTERVIEWED);
+        save("grace@example.com", ApplicationStatus.INTERVIEWED);
+        save("alan@example.com", ApplicationStatus.SUBMITTED);
+        // rows changed outside the application leave counts that no application backs, and miss others
+        record(new StatusTransition(job.getId(), ApplicationStatus.SUBMITTED, ApplicationStatus.WITHDRAWN));
+
+        assertThat(applicationStatusCountRepository.findDriftedJobs()).contains(job.getId());
+
+        applicationStatsService.reconcile();
+
+        assertThat(storedCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                ApplicationStatus.INTERVIEWED, 2L,
+                ApplicationStatus.WITHDRAWN, 0L));
+        assertThat(applicationStatusCountRepository.findDriftedJobs()).doesNotContain(job.getId());
+    }
+
+    private void record(StatusTransition... transitions) {
+        transactionTemplate.executeWithoutResult(status ->
+                applicationStatsService.recordStatusChanges(owner.getId(), List.of(transitions)));
+    }
+
+    private void save(String email, ApplicationStatus status) {
+        applicationRepository.save(Application.builder()
+                .job(job)
+                .firstName("Jane")
+                .lastName("Doe")
+                .applicantEmail(email)
+                .status(status)
+                .build());
+    }
+
+    private Map<ApplicationStatus, Long> storedCounts() {
+        return applicationStatusCountRepository.findAll().stream()
+                .filter(count -> count.getJobId().equals(job.getId()))
+                .collect(Collectors.toMap(ApplicationStatusCount::getStatus, ApplicationStatusCount::getApplications,
+                        Long::sum, () -> new EnumMap<>(ApplicationStatus.class)));
+    }
+}
@@ -0,0 +1,92 @@
+package com.zbib.hiresync.integration;
+
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.UserRepository;
+import com.zbib.hiresync.service.JobApplicationCounterService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(JobApplicationCounterService.class)
+class JobApplicationCounterServiceIntegrationTest {
+
+    @Autowired
+    private JobApplicationCounterService jobApplicationCounterService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void compactionFoldsSlotsWithoutTouchingUpdatedAt() {
+        UUID jobId = saveJob();
+        LocalDateTime updatedAt = jobRepository.findUpdatedAtById(jobId).orElseThrow();
+
+        for (int i = 0; i < 5; i++) {
+            jobApplicationCounterService.increment(jobId);
+        }
+        jobApplicationCounterService.compact();
+
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getApplicationCount()).isEqualTo(5);
+        assertThat(jobApplicationCounterService.getCount(job)).isEqualTo(5);
+        assertThat(job.getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    void pageCountsAndETagInputsIncludeOpenSlots() {
+        UUID jobId = saveJob();
+        UUID otherJobId = saveJob();
+        jobApplicationCounterService.increment(jobId);
+        jobApplicationCounterService.increment(jobId);
+        jobApplicationCounterService.compact();
+        LocalDateTime countedAt = jobRepository.findChangeMarker().lastCountedAt();
+        jobApplicationCounterService.increment(jobId);
+
+        Map<UUID, Long> counts = jobApplicationCounterService.getCounts(jobRepository.findAllById(List.of(jobId, otherJobId)));
+
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(jobId, 3L, otherJobId, 0L));
+        assertThat(jobRepository.findVersionById(jobId).orElseThrow().getApplications()).isEqualTo(3);
+        assertThat(jobRepository.findChangeMarker().lastCountedAt()).isAfter(countedAt);
+    }
+
+    private UUID saveJob() {
+        User owner = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("secret")
+                .firstName("Owner")
+                .lastName("User")
+                .role("USER")
+                .build());
+        return jobRepository.save(Job.builder()
+                .title("Backend Engineer")
+                .description("Build services")
+                .requirements("Java")
+                .companyName("Acme")
+                .user(owner)
+                .employmentType(EmploymentType.FULL_TIME)
+                .workplaceType(WorkplaceType.REMOTE)
+                .active(true)
+                .build()).getId();
+    }
+}
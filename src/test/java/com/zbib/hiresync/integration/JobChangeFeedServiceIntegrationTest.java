@@ -0,0 +1,130 @@
+package com.zbib.hiresync.integration;
+
+import com.zbib.hiresync.dto.event.JobChangedEvent;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.JobEventType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.JobRepositoryCustom;
+import com.zbib.hiresync.repository.JobRepositoryCustom.JobChange;
+import com.zbib.hiresync.repository.UserRepository;
+import com.zbib.hiresync.service.JobChangeFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(JobChangeFeedService.class)
+class JobChangeFeedServiceIntegrationTest {
+
+    @Autowired
+    private JobChangeFeedService jobChangeFeedService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** Latest delivery per job; an empty optional records a delete. */
+    private final Map<UUID, Optional<JobChange>> delivered = new ConcurrentHashMap<>();
+
+    private User owner;
+
+    @BeforeEach
+    void createOwner() {
+        owner = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("secret")
+                .firstName("Owner")
+                .lastName("User")
+                .role("USER")
+                .build());
+    }
+
+    @Test
+    void subscribeReplaysExistingJobsWithTheirIndexedColumns() {
+        Job job = job("Backend Engineer");
+
+        jobChangeFeedService.subscribe((jobId, change) -> delivered.put(jobId, Optional.ofNullable(change)),
+                JobChangeFeedService.BEGINNING);
+
+        JobChange change = delivered.get(job.getId()).orElseThrow();
+        assertThat(change.title()).isEqualTo("Backend Engineer");
+        assertThat(change.ownerId()).isEqualTo(owner.getId());
+        assertThat(change.active()).isTrue();
+        assertThat(change.simhash()).isEqualTo(job.getSimhash());
+    }
+
+    @Test
+    void pollDeliversUpdatesAndTombstonedDeletes() {
+        Job updated = job("Backend Engineer");
+        Job deleted = job("Frontend Engineer");
+        jobChangeFeedService.subscribe((jobId, change) -> delivered.put(jobId, Optional.ofNullable(change)),
+                JobChangeFeedService.BEGINNING);
+
+        updated.setTitle("Platform Engineer");
+        jobRepository.save(updated);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jobRepository.deleteById(deleted.getId());
+            applicationEventPublisher.publishEvent(new JobChangedEvent(deleted.getId(), JobEventType.DELETED, null));
+        });
+        jobChangeFeedService.poll();
+
+        assertThat(delivered.get(updated.getId()).orElseThrow().title()).isEqualTo("Platform Engineer");
+        assertThat(delivered.get(deleted.getId())).isEmpty();
+    }
+
+    @Test
+    void changeMarkerMovesWhenAJobIsDeleted() {
+        Job deleted = job("Data Engineer");
+        JobRepositoryCustom.ChangeMarker before = jobRepository.findChangeMarker();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jobRepository.deleteById(deleted.getId());
+            applicationEventPublisher.publishEvent(new JobChangedEvent(deleted.getId(), JobEventType.DELETED, null));
+        });
+
+        JobRepositoryCustom.ChangeMarker after = jobRepository.findChangeMarker();
+        assertThat(after).isNotEqualTo(before);
+        assertThat(after.lastDeletedAt()).isAfter(before.lastUpdatedAt());
+    }
+
+    private Job job(String title) {
+        return jobRepository.save(Job.builder()
+                .title(title)
+                .description("Build services")
+                .requirements("Java")
+                .companyName("Acme")
+                .user(owner)
+                .employmentType(EmploymentType.FULL_TIME)
+                .workplaceType(WorkplaceType.REMOTE)
+                .active(true)
+                .build());
+    }
+}
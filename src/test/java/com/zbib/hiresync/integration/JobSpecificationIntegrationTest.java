@@ -0,0 +1,150 @@
+package com.zbib.hiresync.integration;
+
+import com.zbib.hiresync.config.DatabaseIndexInitializer;
+import com.zbib.hiresync.dto.filter.JobFilter;
+import com.zbib.hiresync.entity.Address;
+import com.zbib.hiresync.entity.Job;
+import com.zbib.hiresync.entity.User;
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.repository.JobRepository;
+import com.zbib.hiresync.repository.UserRepository;
+import com.zbib.hiresync.service.GeocodingService;
+import com.zbib.hiresync.service.JobSearchIndexService;
+import com.zbib.hiresync.specification.JobSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JobSpecification.class, DatabaseIndexInitializer.class})
+class JobSpecificationIntegrationTest {
+
+    @MockitoBean
+    private JobSearchIndexService jobSearchIndexService;
+
+    @MockitoBean
+    private GeocodingService geocodingService;
+
+    @Autowired
+    private DatabaseIndexInitializer databaseIndexInitializer;
+
+    @Autowired
+    private JobSpecification jobSpecification;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void createOwner() {
+        databaseIndexInitializer.run(null);
+        owner = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("secret")
+                .firstName("Owner")
+                .lastName("User")
+                .role("USER")
+                .build());
+        when(geocodingService.canonicalCity(any())).thenReturn(Optional.empty());
+        when(geocodingService.canonicalCountry(any())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void searchResultsKeepHitOrderAcrossPages() {
+        UUID first = job("Alpha").getId();
+        UUID second = job("Bravo").getId();
+        UUID third = job("Charlie").getId();
+        when(jobSearchIndexService.search("engineer")).thenReturn(List.of(third, first, second));
+
+        JobFilter filter = JobFilter.builder().searchQuery("engineer").build();
+        Page<Job> firstPage = jobRepository.findAll(jobSpecification.buildSpecification(filter), PageRequest.of(0, 2));
+        Page<Job> secondPage = jobRepository.findAll(jobSpecification.buildSpecification(filter), PageRequest.of(1, 2));
+
+        assertThat(firstPage.getContent()).extracting(Job::getId).containsExactly(third, first);
+        assertThat(secondPage.getContent()).extracting(Job::getId).containsExactly(second);
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void explicitSortReplacesHitOrder() {
+        UUID first = job("Alpha").getId();
+        UUID second = job("Bravo").getId();
+        when(jobSearchIndexService.search("engineer")).thenReturn(List.of(second, first));
+
+        JobFilter filter = JobFilter.builder().searchQuery("engineer").build();
+        Page<Job> page = jobRepository.findAll(jobSpecification.buildSpecification(filter),
+                PageRequest.of(0, 10, Sort.by("companyName")));
+
+        assertThat(page.getContent()).extracting(Job::getId).containsExactly(first, second);
+    }
+
+    @Test
+    void noHitsMatchNothing() {
+        job("Alpha");
+        when(jobSearchIndexService.search("nothing")).thenReturn(List.of());
+
+        JobFilter filter = JobFilter.builder().searchQuery("nothing").build();
+
+        assertThat(jobRepository.findAll(jobSpecification.buildSpecification(filter), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void radiusSearchReachesTheAntipode() {
+        Job near = located("Near", 0.0, 90.0);
+        Job antipodal = located("Antipodal", 0.0, 180.0);
+
+        JobFilter filter = JobFilter.builder()
+                .latitude(0.0)
+                .longitude(0.0)
+                .radiusKm(20100.0)
+                .sortByDistance(true)
+                .build();
+
+        assertThat(jobRepository.findAll(jobSpecification.buildSpecification(filter), PageRequest.of(0, 1000)).getContent())
+                .extracting(Job::getId)
+                .containsSubsequence(near.getId(), antipodal.getId());
+    }
+
+    private Job located(String company, double latitude, double longitude) {
+        Job job = job(company);
+        job.setAddress(Address.builder().city(company).country("Nowhere").latitude(latitude).longitude(longitude).build());
+        return jobRepository.save(job);
+    }
+
+    private Job job(String company) {
+        return jobRepository.save(Job.builder()
+                .title("Engineer")
+                .description("Build services")
+                .requirements("Java")
+                .companyName(company)
+                .user(owner)
+                .employmentType(EmploymentType.FULL_TIME)
+                .workplaceType(WorkplaceType.REMOTE)
+                .active(true)
+                .build());
+    }
+}
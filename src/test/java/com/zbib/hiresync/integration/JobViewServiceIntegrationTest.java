@@ -0,0 +1,40 @@
+package com.zbib.hiresync.integration;
+
+import com.zbib.hiresync.service.JobViewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(JobViewService.class)
+class JobViewServiceIntegrationTest {
+
+    @Autowired
+    private JobViewService jobViewService;
+
+    @Test
+    void flushesInsertNewRowsAndAddToExistingOnes() {
+        UUID seen = UUID.randomUUID();
+        UUID unseen = UUID.randomUUID();
+
+        jobViewService.recordView(seen);
+        jobViewService.recordView(seen);
+        jobViewService.flush();
+        jobViewService.recordView(seen);
+        jobViewService.recordView(unseen);
+        jobViewService.flush();
+
+        assertThat(jobViewService.getViewCount(seen)).isEqualTo(3);
+        assertThat(jobViewService.getViewCount(unseen)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,60 @@
+package com.zbib.hiresync.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AhoCorasickTest {
+
+    @Test
+    void reportsOverlappingKeysAtWordBoundaries() {
+        AhoCorasick<String> automaton = new AhoCorasick<>();
+        automaton.put("spring", "Spring");
+        automaton.put("spring boot", "Spring Boot");
+        automaton.put("boot", "Boot");
+        automaton.build();
+
+        List<AhoCorasick.Match<String>> matches = automaton.findAll("i use spring boot daily");
+
+        assertThat(matches).extracting(AhoCorasick.Match::values).containsExactly(
+                List.of("Spring"), List.of("Spring Boot"), List.of("Boot"));
+        assertThat(matches.get(1).start()).isEqualTo(6);
+        assertThat(matches.get(1).end()).isEqualTo(17);
+    }
+
+    @Test
+    void ignoresKeysInsideWords() {
+        AhoCorasick<String> automaton = new AhoCorasick<>();
+        automaton.put("java", "Java");
+        automaton.put("go", "Go");
+        automaton.build();
+
+        assertThat(automaton.findAll("javascript and google")).isEmpty();
+        assertThat(automaton.findAll("go java")).hasSize(2);
+    }
+
+    @Test
+    void followsFailureLinksAcrossPartialMatches() {
+        AhoCorasick<String> automaton = new AhoCorasick<>();
+        automaton.put("abcd", "long");
+        automaton.put("bc", "short");
+        automaton.put("c", "single");
+        automaton.build();
+
+        assertThat(automaton.findAll("abc bc c")).extracting(AhoCorasick.Match::values)
+                .containsExactly(List.of("short"), List.of("single"));
+    }
+
+    @Test
+    void requiresBuildBeforeMatchingAndRejectsLateKeys() {
+        AhoCorasick<String> automaton = new AhoCorasick<>();
+        automaton.put("java", "Java");
+
+        assertThatThrownBy(() -> automaton.findAll("java")).isInstanceOf(IllegalStateException.class);
+        automaton.build();
+        assertThatThrownBy(() -> automaton.put("go", "Go")).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,106 @@
+package com.zbib.hiresync.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void ranksByBm25AndRequiresAllTerms() {
+        InvertedIndex index = new InvertedIndex();
+        UUID javaHeavy = UUID.randomUUID();
+        UUID javaLight = UUID.randomUUID();
+        UUID python = UUID.randomUUID();
+        index.index(javaHeavy, Map.of("java", 5, "backend", 1));
+        index.index(javaLight, Map.of("java", 1, "backend", 1, "spring", 1, "kafka", 1));
+        index.index(python, Map.of("python", 2, "backend", 1));
+
+        assertThat(keys(index.search("java backend", 10))).containsExactly(javaHeavy, javaLight);
+        assertThat(index.search("java python", 10)).isEmpty();
+    }
+
+    @Test
+    void matchesLastTokenAsPrefix() {
+        InvertedIndex index = new InvertedIndex();
+        UUID key = UUID.randomUUID();
+        index.index(key, Map.of("kubernetes", 1, "engineer", 1));
+
+        assertThat(keys(index.search("engineer kube", 10))).containsExactly(key);
+        assertThat(index.search("kube engineer", 10)).isEmpty();
+    }
+
+    @Test
+    void replacesAndRemovesDocuments() {
+        InvertedIndex index = new InvertedIndex();
+        UUID key = UUID.randomUUID();
+        index.index(key, Map.of("java", 1));
+        index.index(key, Map.of("golang", 1));
+
+        assertThat(index.search("java", 10)).isEmpty();
+        assertThat(keys(index.search("golang", 10))).containsExactly(key);
+
+        index.remove(key);
+        assertThat(index.search("golang", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void compactionKeepsReindexedDocumentsBounded() throws Exception {
+        InvertedIndex reindexed = new InvertedIndex();
+        InvertedIndex fresh = new InvertedIndex();
+        List<UUID> keys = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        for (UUID key : keys) {
+            fresh.index(key, Map.of("java", 1, "engineer", 2));
+        }
+        for (int round = 0; round < 50; round++) {
+            for (UUID key : keys) {
+                reindexed.index(key, Map.of("java", 1, "engineer", 2));
+            }
+            reindexed.compactIfNeeded();
+        }
+
+        Path reindexedSnapshot = tempDir.resolve("reindexed.bin");
+        Path freshSnapshot = tempDir.resolve("fresh.bin");
+        reindexed.writeSnapshot(reindexedSnapshot, 0);
+        fresh.writeSnapshot(freshSnapshot, 0);
+
+        assertThat(Files.size(reindexedSnapshot)).isEqualTo(Files.size(freshSnapshot));
+        assertThat(keys(reindexed.search("java engineer", 10))).containsExactlyInAnyOrderElementsOf(keys);
+        reindexed.index(keys.get(0), Map.of("java", 3, "engineer", 2));
+        assertThat(keys(reindexed.search("java", 10)).get(0)).isEqualTo(keys.get(0));
+    }
+
+    @Test
+    void snapshotRoundTripsLiveDocumentsAndWatermark() throws Exception {
+        InvertedIndex index = new InvertedIndex();
+        UUID kept = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        index.index(kept, Map.of("java", 1));
+        index.index(removed, Map.of("java", 1));
+        index.remove(removed);
+        Path snapshot = tempDir.resolve("index.bin");
+        index.writeSnapshot(snapshot, 42L);
+
+        InvertedIndex.Snapshot restored = InvertedIndex.readSnapshot(snapshot);
+
+        assertThat(restored.watermark()).isEqualTo(42L);
+        assertThat(keys(restored.index().search("java", 10))).containsExactly(kept);
+        assertThat(restored.index().compactIfNeeded()).isTrue();
+        assertThat(keys(restored.index().search("java", 10))).containsExactly(kept);
+    }
+
+    private static List<UUID> keys(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::key).toList();
+    }
+}
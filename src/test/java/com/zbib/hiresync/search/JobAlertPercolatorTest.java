@@ -0,0 +1,110 @@
+package com.zbib.hiresync.search;
+
+import com.zbib.hiresync.enums.EmploymentType;
+import com.zbib.hiresync.enums.WorkplaceType;
+import com.zbib.hiresync.search.JobAlertPercolator.Document;
+import com.zbib.hiresync.search.JobAlertPercolator.Query;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobAlertPercolatorTest {
+
+    private final JobAlertPercolator percolator = new JobAlertPercolator();
+
+    @Test
+    void matchesQueriesWhoseKeywordsTheJobHas() {
+        Query java = keywords(Set.of("java"), "spring");
+        Query python = keywords(Set.of("python"), "django");
+        percolator.add(java);
+        percolator.add(python);
+
+        assertThat(alertIds(percolator.match(document("java", "spring", "backend")))).containsExactly(java.alertId());
+    }
+
+    @Test
+    void lastSearchTermMatchesAsPrefix() {
+        Query query = keywords(Set.of("backend"), "kube");
+        percolator.add(query);
+
+        assertThat(percolator.match(document("backend", "kubernetes"))).containsExactly(query);
+        assertThat(percolator.match(document("backend", "docker"))).isEmpty();
+    }
+
+    @Test
+    void singleShortTermIsFiledUnderItsPrefix() {
+        Query query = keywords(Set.of(), "go");
+        percolator.add(query);
+
+        assertThat(percolator.match(document("golang", "engineer"))).containsExactly(query);
+        assertThat(percolator.match(document("rust", "engineer"))).isEmpty();
+    }
+
+    @Test
+    void fuzzyQueriesTolerateTyposInNames() {
+        Query exact = company("acme corporatoin", false);
+        Query fuzzy = company("acme corporatoin", true);
+        percolator.add(exact);
+        percolator.add(fuzzy);
+
+        assertThat(percolator.match(document("engineer"))).containsExactly(fuzzy);
+    }
+
+    @Test
+    void appliesCreationDateFilters() {
+        LocalDateTime now = LocalDateTime.now();
+        Query recent = created(1, null, null);
+        Query expired = created(null, null, now.minusDays(1));
+        Query upcoming = created(null, now.plusDays(1), null);
+        percolator.add(recent);
+        percolator.add(expired);
+        percolator.add(upcoming);
+
+        assertThat(percolator.match(document("engineer"))).containsExactly(recent);
+    }
+
+    @Test
+    void removedQueriesNoLongerMatch() {
+        Query query = keywords(Set.of(), "engineer");
+        percolator.add(query);
+        percolator.remove(query.alertId());
+
+        assertThat(percolator.match(document("engineer"))).isEmpty();
+        assertThat(percolator.size()).isZero();
+    }
+
+    private static Query keywords(Set<String> keywords, String prefix) {
+        return query(keywords, prefix, null, false, null, null, null);
+    }
+
+    private static Query company(String companyName, boolean fuzzy) {
+        return query(Set.of(), null, companyName, fuzzy, null, null, null);
+    }
+
+    private static Query created(Integer postedWithinDays, LocalDateTime createdAfter, LocalDateTime createdBefore) {
+        return query(Set.of(), null, null, false, postedWithinDays, createdAfter, createdBefore);
+    }
+
+    private static Query query(Set<String> keywords, String prefix, String companyName, boolean fuzzy,
+                               Integer postedWithinDays, LocalDateTime createdAfter, LocalDateTime createdBefore) {
+        return new Query(UUID.randomUUID(), UUID.randomUUID(), keywords, prefix, null, false, null, false,
+                companyName, fuzzy, null, Set.of(), Set.of(), null, null, postedWithinDays, createdAfter,
+                createdBefore, null, null, null, null);
+    }
+
+    private static Document document(String... tokens) {
+        return new Document(Set.of(tokens), "berlin", "germany", "acme corporation", "EUR",
+                EmploymentType.FULL_TIME, WorkplaceType.REMOTE, new BigDecimal("60000"), new BigDecimal("80000"),
+                LocalDateTime.now(), UUID.randomUUID(), null, null);
+    }
+
+    private static List<UUID> alertIds(List<Query> queries) {
+        return queries.stream().map(Query::alertId).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.zbib.hiresync.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LshIndexTest {
+
+    private static final String POSTING = "Senior backend engineer building payment services in Java and Spring Boot "
+            + "with PostgreSQL, Kafka and Kubernetes for a growing fintech team";
+
+    @Test
+    void findsSimilarDocumentsWithTheirEstimatedSimilarity() {
+        LshIndex index = new LshIndex();
+        UUID similar = UUID.randomUUID();
+        UUID unrelated = UUID.randomUUID();
+        index.put(similar, MinHash.signature(POSTING.replace("fintech", "insurance")));
+        index.put(unrelated, MinHash.signature("Pastry chef wanted for a busy bakery, early mornings and weekend shifts"));
+
+        int[] query = MinHash.signature(POSTING);
+
+        assertThat(index.candidates(query, 0.5)).containsOnlyKeys(similar);
+        assertThat(index.candidates(query, 0.5).get(similar)).isGreaterThan(0.7);
+        assertThat(index.candidates(query, 0.99)).isEmpty();
+    }
+
+    @Test
+    void removingADocumentKeepsOthersInSharedBuckets() {
+        LshIndex index = new LshIndex();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        index.put(first, MinHash.signature(POSTING));
+        index.put(second, MinHash.signature(POSTING));
+
+        index.remove(first);
+
+        assertThat(index.candidates(MinHash.signature(POSTING), 0.5)).containsOnlyKeys(second);
+    }
+
+    @Test
+    void replacesAndRemovesDocuments() {
+        LshIndex index = new LshIndex();
+        UUID id = UUID.randomUUID();
+        index.put(id, MinHash.signature(POSTING));
+        index.put(id, MinHash.signature("Pastry chef wanted for a busy bakery, early mornings and weekend shifts"));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.candidates(MinHash.signature(POSTING), 0.5)).isEmpty();
+
+        index.remove(id);
+        assertThat(index.size()).isZero();
+        assertThat(index.get(id)).isNull();
+    }
+}
@@ -0,0 +1,50 @@
+package com.zbib.hiresync.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MinHashTest {
+
+    private static final String POSTING = "Senior backend engineer building payment services in Java and Spring Boot "
+            + "with PostgreSQL, Kafka and Kubernetes for a growing fintech team";
+
+    @Test
+    void identicalTextsHaveIdenticalSignatures() {
+        assertThat(MinHash.similarity(MinHash.signature(POSTING), MinHash.signature(POSTING))).isEqualTo(1.0);
+    }
+
+    @Test
+    void estimatesShingleOverlap() {
+        int[] original = MinHash.signature(POSTING);
+        int[] edited = MinHash.signature(POSTING.replace("fintech", "insurance"));
+        int[] unrelated = MinHash.signature("Pastry chef wanted for a busy bakery, early mornings and weekend shifts");
+
+        assertThat(MinHash.similarity(original, edited)).isGreaterThan(0.7);
+        assertThat(MinHash.similarity(original, unrelated)).isCloseTo(0.0, within(0.1));
+    }
+
+    @Test
+    void ignoresCaseAndPunctuationAndSignsSingleWords() {
+        assertThat(MinHash.signature("JAVA, Spring!")).containsExactly(MinHash.signature("java spring"));
+        assertThat(MinHash.signature("Java")).isNotNull();
+        assertThat(MinHash.similarity(MinHash.signature("Java"), MinHash.signature("Java"))).isEqualTo(1.0);
+    }
+
+    @Test
+    void textWithoutWordsHasNoSignature() {
+        assertThat(MinHash.signature("", null, " -- ")).isNull();
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        int[] signature = MinHash.signature(POSTING);
+
+        byte[] bytes = MinHash.toBytes(signature);
+
+        assertThat(bytes).hasSize(MinHash.SIGNATURE_BYTES);
+        assertThat(MinHash.fromBytes(bytes)).containsExactly(signature);
+        assertThat(MinHash.fromBytes(new byte[3])).isNull();
+    }
+}
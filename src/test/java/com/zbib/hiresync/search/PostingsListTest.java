@@ -0,0 +1,70 @@
+package com.zbib.hiresync.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingsListTest {
+
+    @Test
+    void roundTripsMultiByteVarInts() {
+        PostingsList postings = new PostingsList();
+        postings.add(0, 1);
+        postings.add(127, 128);
+        postings.add(128, 300);
+        postings.add(1 << 21, Integer.MAX_VALUE);
+
+        assertThat(collect(postings)).containsExactly(
+                new int[]{0, 1}, new int[]{127, 128}, new int[]{128, 300}, new int[]{1 << 21, Integer.MAX_VALUE});
+        assertThat(postings.docFrequency()).isEqualTo(4);
+    }
+
+    @Test
+    void rejectsOutOfOrderDocIds() {
+        PostingsList postings = new PostingsList();
+        postings.add(5, 1);
+
+        assertThatThrownBy(() -> postings.add(5, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compactDropsAndRenumbersDocIds() {
+        PostingsList postings = new PostingsList();
+        postings.add(1, 3);
+        postings.add(4, 2);
+        postings.add(9, 7);
+
+        PostingsList compacted = postings.compact(new int[]{-1, 0, -1, -1, -1, -1, -1, -1, -1, 1});
+
+        assertThat(collect(compacted)).containsExactly(new int[]{0, 3}, new int[]{1, 7});
+        compacted.add(2, 1);
+        assertThat(compacted.docFrequency()).isEqualTo(3);
+    }
+
+    @Test
+    void serializesAndKeepsAppending() {
+        PostingsList postings = new PostingsList();
+        postings.add(3, 1);
+        postings.add(700, 2);
+        ByteBuffer buffer = ByteBuffer.allocate(postings.serializedSize());
+        postings.writeTo(buffer);
+        buffer.flip();
+
+        PostingsList restored = PostingsList.readFrom(buffer);
+        restored.add(701, 5);
+
+        assertThat(collect(restored)).containsExactly(new int[]{3, 1}, new int[]{700, 2}, new int[]{701, 5});
+        assertThatThrownBy(() -> restored.add(701, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<int[]> collect(PostingsList postings) {
+        List<int[]> entries = new ArrayList<>();
+        postings.forEach((docId, frequency) -> entries.add(new int[]{docId, frequency}));
+        return entries;
+    }
+}
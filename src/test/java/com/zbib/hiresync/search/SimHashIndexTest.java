@@ -0,0 +1,73 @@
+package com.zbib.hiresync.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashIndexTest {
+
+    private static final long FINGERPRINT = 0x5A5A_F0F0_1234_ABCDL;
+
+    @Test
+    void findsTheOwnersFingerprintsWithinTheDistanceClosestFirst() {
+        SimHashIndex index = new SimHashIndex();
+        UUID owner = UUID.randomUUID();
+        UUID close = UUID.randomUUID();
+        UUID farther = UUID.randomUUID();
+        UUID tooFar = UUID.randomUUID();
+        index.put(owner, farther, flipBits(FINGERPRINT, 6));
+        index.put(owner, close, flipBits(FINGERPRINT, 1));
+        index.put(owner, tooFar, flipBits(FINGERPRINT, 8));
+
+        assertThat(index.find(owner, FINGERPRINT, SimHashIndex.MAX_DISTANCE)).containsExactly(close, farther);
+        assertThat(index.find(owner, FINGERPRINT, 3)).containsExactly(close);
+    }
+
+    @Test
+    void ignoresOtherOwners() {
+        SimHashIndex index = new SimHashIndex();
+        index.put(UUID.randomUUID(), UUID.randomUUID(), FINGERPRINT);
+
+        assertThat(index.find(UUID.randomUUID(), FINGERPRINT, SimHashIndex.MAX_DISTANCE)).isEmpty();
+    }
+
+    @Test
+    void replacesAndRemovesFingerprints() {
+        SimHashIndex index = new SimHashIndex();
+        UUID owner = UUID.randomUUID();
+        UUID id = UUID.randomUUID();
+        index.put(owner, id, FINGERPRINT);
+        index.put(owner, id, ~FINGERPRINT);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.find(owner, FINGERPRINT, SimHashIndex.MAX_DISTANCE)).isEmpty();
+
+        index.remove(id);
+        assertThat(index.find(owner, ~FINGERPRINT, 0)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void rewordedPostingStaysWithinTheDefaultDistance() {
+        String posting = "Senior backend engineer building payment services in Java and Spring Boot "
+                + "with PostgreSQL, Kafka and Kubernetes for a growing fintech team in Berlin";
+
+        long original = SimHash.fingerprint(posting);
+        long reworded = SimHash.fingerprint(posting.replace("growing", "fast growing"));
+        long unrelated = SimHash.fingerprint("Pastry chef wanted for a busy bakery, early mornings and weekend shifts");
+
+        assertThat(SimHash.distance(original, reworded)).isLessThanOrEqualTo(SimHashIndex.MAX_DISTANCE);
+        assertThat(SimHash.distance(original, unrelated)).isGreaterThan(SimHashIndex.MAX_DISTANCE);
+    }
+
+    /** Flips {@code bits} bits spread over different 8-bit blocks. */
+    private static long flipBits(long fingerprint, int bits) {
+        long result = fingerprint;
+        for (int i = 0; i < bits; i++) {
+            result ^= 1L << (i * 9 % Long.SIZE);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+package com.zbib.hiresync.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillBitmapIndexTest {
+
+    private final UUID javaSpring = UUID.randomUUID();
+    private final UUID javaKafka = UUID.randomUUID();
+    private final UUID python = UUID.randomUUID();
+
+    @Test
+    void matchesAllAndAnySkillsCaseInsensitively() {
+        SkillBitmapIndex index = index();
+
+        assertThat(index.matchAll(List.of("java", "SPRING"))).containsExactly(javaSpring);
+        assertThat(index.matchAll(List.of("Java"))).containsExactlyInAnyOrder(javaSpring, javaKafka);
+        assertThat(index.matchAny(List.of("Kafka", "Python", "Rust"))).containsExactlyInAnyOrder(javaKafka, python);
+    }
+
+    @Test
+    void unknownSkillMatchesNothingForAll() {
+        SkillBitmapIndex index = index();
+
+        assertThat(index.matchAll(List.of("Java", "Rust"))).isEmpty();
+        assertThat(index.matchAll(List.of())).isEmpty();
+        assertThat(index.matchAny(List.of("Rust"))).isEmpty();
+    }
+
+    @Test
+    void putReplacesAnApplicationsSkills() {
+        SkillBitmapIndex index = index();
+
+        index.put(javaSpring, List.of("Python"));
+
+        assertThat(index.matchAll(List.of("Spring"))).isEmpty();
+        assertThat(index.matchAll(List.of("Java"))).containsExactly(javaKafka);
+        assertThat(index.matchAll(List.of("Python"))).containsExactlyInAnyOrder(javaSpring, python);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private SkillBitmapIndex index() {
+        SkillBitmapIndex index = new SkillBitmapIndex();
+        index.put(javaSpring, List.of("Java", "Spring"));
+        index.put(javaKafka, List.of("Java", "Kafka"));
+        index.put(python, List.of("Python"));
+        return index;
+    }
+}
@@ -0,0 +1,75 @@
+package com.zbib.hiresync.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SuggestionTrieTest {
+
+    private enum Kind { TITLE, COMPANY }
+
+    @Test
+    void suggestsByAnyWordPrefixHeaviestFirst() {
+        SuggestionTrie<Kind> trie = new SuggestionTrie<>();
+        trie.adjust(Kind.TITLE, "Senior Java Developer", 2);
+        trie.adjust(Kind.TITLE, "Java Engineer", 5);
+        trie.adjust(Kind.TITLE, "JavaScript Developer", 1);
+
+        assertThat(texts(trie.suggest("jav", 10)))
+                .containsExactly("Java Engineer", "Senior Java Developer", "JavaScript Developer");
+        assertThat(texts(trie.suggest("dev", 10))).containsExactly("Senior Java Developer", "JavaScript Developer");
+        assertThat(texts(trie.suggest("java", 1))).containsExactly("Java Engineer");
+    }
+
+    @Test
+    void removesPhrasesOnceTheirWeightReachesZero() {
+        SuggestionTrie<Kind> trie = new SuggestionTrie<>();
+        trie.adjust(Kind.TITLE, "Java Engineer", 2);
+        trie.adjust(Kind.TITLE, "Java Developer", 1);
+
+        trie.adjust(Kind.TITLE, "Java Engineer", -1);
+        assertThat(trie.suggest("java", 10)).extracting(SuggestionTrie.Suggestion::weight).containsExactly(1L, 1L);
+
+        trie.adjust(Kind.TITLE, "Java Engineer", -1);
+        assertThat(texts(trie.suggest("java", 10))).containsExactly("Java Developer");
+        assertThat(trie.suggest("eng", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsSiblingsWhenSplitNodesAreMergedBack() {
+        SuggestionTrie<Kind> trie = new SuggestionTrie<>();
+        trie.adjust(Kind.COMPANY, "Acme", 1);
+        trie.adjust(Kind.COMPANY, "Acme Labs", 1);
+        trie.adjust(Kind.COMPANY, "Acorn", 1);
+
+        trie.adjust(Kind.COMPANY, "Acme", -1);
+        trie.adjust(Kind.COMPANY, "Acorn", -1);
+
+        assertThat(texts(trie.suggest("ac", 10))).containsExactly("Acme Labs");
+        assertThat(texts(trie.suggest("lab", 10))).containsExactly("Acme Labs");
+        trie.adjust(Kind.COMPANY, "Acorn", 3);
+        assertThat(texts(trie.suggest("ac", 10))).containsExactly("Acorn", "Acme Labs");
+    }
+
+    @Test
+    void separatesKindsAndIgnoresCaseAndAccents() {
+        SuggestionTrie<Kind> trie = new SuggestionTrie<>();
+        trie.adjust(Kind.TITLE, "Café Manager", 1);
+        trie.adjust(Kind.COMPANY, "Café Manager", 1);
+        trie.adjust(Kind.TITLE, "CAFÉ MANAGER", 1);
+
+        assertThat(trie.suggest("cafe", 10)).extracting(SuggestionTrie.Suggestion::kind, SuggestionTrie.Suggestion::weight)
+                .containsExactlyInAnyOrder(tuple(Kind.TITLE, 2L),
+                        tuple(Kind.COMPANY, 1L));
+        trie.adjust(Kind.TITLE, "Unknown", -1);
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    private static List<String> texts(List<SuggestionTrie.Suggestion<Kind>> suggestions) {
+        return suggestions.stream().map(SuggestionTrie.Suggestion::text).toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.zbib.hiresync.service;
+
+import com.zbib.hiresync.enums.ApplicationStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationExportServiceTest {
+
+    @Test
+    void plainValuesAreWrittenAsIs() {
+        assertThat(ApplicationExportService.csvField("Ada Lovelace")).isEqualTo("Ada Lovelace");
+        assertThat(ApplicationExportService.csvField(ApplicationStatus.SHORTLISTED)).isEqualTo("SHORTLISTED");
+        assertThat(ApplicationExportService.csvField(null)).isEmpty();
+        assertThat(ApplicationExportService.csvField("")).isEmpty();
+    }
+
+    @Test
+    void quotesValuesWithDelimitersQuotesOrLineBreaks() {
+        assertThat(ApplicationExportService.csvField("Lovelace, Ada")).isEqualTo("\"Lovelace, Ada\"");
+        assertThat(ApplicationExportService.csvField("said \"hi\"")).isEqualTo("\"said \"\"hi\"\"\"");
+        assertThat(ApplicationExportService.csvField("line one\nline two")).isEqualTo("\"line one\nline two\"");
+        assertThat(ApplicationExportService.csvField("line one\rline two")).isEqualTo("\"line one\rline two\"");
+    }
+
+    @Test
+    void defusesTextThatASpreadsheetWouldRunAsAFormula() {
+        assertThat(ApplicationExportService.csvField("=HYPERLINK(\"http://evil\")")).isEqualTo("\"'=HYPERLINK(\"\"http://evil\"\")\"");
+        assertThat(ApplicationExportService.csvField("+1")).isEqualTo("'+1");
+        assertThat(ApplicationExportService.csvField("-2")).isEqualTo("'-2");
+        assertThat(ApplicationExportService.csvField("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(ApplicationExportService.csvField("\tcmd")).isEqualTo("'\tcmd");
+        assertThat(ApplicationExportService.csvField("\rcmd")).isEqualTo("\"'\rcmd\"");
+    }
+
+    @Test
+    void leavesNumbersAlone() {
+        assertThat(ApplicationExportService.csvField(-5)).isEqualTo("-5");
+        assertThat(ApplicationExportService.csvField(87)).isEqualTo("87");
+    }
+}